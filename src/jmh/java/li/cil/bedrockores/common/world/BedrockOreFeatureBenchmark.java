@@ -0,0 +1,164 @@
+package li.cil.bedrockores.common.world;
+
+import net.minecraft.SharedConstants;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.util.RandomSource;
+import net.minecraft.util.valueproviders.ConstantInt;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.LevelHeightAccessor;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.chunk.PalettedContainer;
+import net.minecraft.world.level.chunk.ProtoChunk;
+import net.minecraft.world.level.chunk.UpgradeData;
+import net.minecraft.world.level.levelgen.feature.FeaturePlaceContext;
+import net.minecraft.world.ticks.ProtoChunkTicks;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+// Measures placing a single vein on a synthetic bedrock floor. Run via the
+// jmh Gradle task, which also reports allocations (gc.alloc.rate.norm).
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BedrockOreFeatureBenchmark {
+    private static final int MIN_BUILD_HEIGHT = -64;
+    private static final int BUILD_HEIGHT = 384;
+    private static final int BEDROCK_LAYERS = 5;
+    private static final long FLOOR_SEED = 0x5EEDL;
+    private static final long VEIN_SEED = 0xB3D20CL;
+
+    @Param({"0", "4", "8"})
+    public int radius;
+
+    @Param({"0.25", "0.75", "1.0"})
+    public float density;
+
+    @Param({"2", "4", "8"})
+    public int halfHeight;
+
+    @Param({"LEGACY", "FAST"})
+    public BedrockOreConfiguration.Placement placement;
+
+    private final ProtoChunk[] chunks = new ProtoChunk[9];
+    private final RandomSource random = RandomSource.create();
+    private BenchmarkLevel level;
+    private BedrockOreFeature feature;
+    private FeaturePlaceContext<BedrockOreConfiguration> context;
+
+    // --------------------------------------------------------------------- //
+
+    @Setup(Level.Trial)
+    public void setup() {
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+
+        final var heightAccessor = new LevelHeightAccessor() {
+            @Override
+            public int getHeight() {
+                return BUILD_HEIGHT;
+            }
+
+            @Override
+            public int getMinBuildHeight() {
+                return MIN_BUILD_HEIGHT;
+            }
+        };
+
+        final var floorRandom = RandomSource.create(FLOOR_SEED);
+        for (var chunkZ = -1; chunkZ <= 1; chunkZ++) {
+            for (var chunkX = -1; chunkX <= 1; chunkX++) {
+                chunks[BenchmarkLevel.getChunkIndex(chunkX, chunkZ)] = createChunk(new ChunkPos(chunkX, chunkZ), heightAccessor, floorRandom);
+            }
+        }
+
+        // The mod's blocks are not registered here, so stand in for bedrock ore.
+        final var bedrockOreState = Blocks.IRON_ORE.defaultBlockState();
+        level = new BenchmarkLevel(chunks, bedrockOreState);
+
+        feature = new BedrockOreFeature(BedrockOreConfiguration.CODEC) {
+            @Override
+            protected BlockState getBedrockOreBlockState() {
+                return bedrockOreState;
+            }
+        };
+
+        final var config = new BedrockOreConfiguration(
+                Blocks.DIAMOND_ORE.defaultBlockState(),
+                ConstantInt.of(250),
+                ConstantInt.of(radius),
+                ConstantInt.of(halfHeight),
+                density,
+                placement);
+        final var origin = new BlockPos(8, MIN_BUILD_HEIGHT + 2, 8);
+        context = new FeaturePlaceContext<>(Optional.empty(), level, null, random, origin, config);
+    }
+
+    @Benchmark
+    public boolean placeVein() {
+        level.reset();
+        random.setSeed(VEIN_SEED);
+        return feature.place(context);
+    }
+
+    // --------------------------------------------------------------------- //
+
+    private static ProtoChunk createChunk(final ChunkPos chunkPos, final LevelHeightAccessor heightAccessor, final RandomSource floorRandom) {
+        final var sections = new LevelChunkSection[heightAccessor.getSectionsCount()];
+        for (var index = 0; index < sections.length; index++) {
+            final var states = new PalettedContainer<>(Block.BLOCK_STATE_REGISTRY, Blocks.AIR.defaultBlockState(), PalettedContainer.Strategy.SECTION_STATES);
+            final var sectionY = heightAccessor.getSectionYFromSectionIndex(index);
+            final var sectionMinY = SectionPos.sectionToBlockCoord(sectionY);
+            for (var localY = 0; localY < SectionPos.SECTION_SIZE; localY++) {
+                final var y = sectionMinY + localY;
+                for (var localZ = 0; localZ < SectionPos.SECTION_SIZE; localZ++) {
+                    for (var localX = 0; localX < SectionPos.SECTION_SIZE; localX++) {
+                        states.getAndSetUnchecked(localX, localY, localZ, getFloorState(y, floorRandom));
+                    }
+                }
+            }
+            // Biomes are never queried by the feature.
+            sections[index] = new LevelChunkSection(sectionY, states, null);
+        }
+
+        return new ProtoChunk(chunkPos, UpgradeData.EMPTY, sections,
+                new ProtoChunkTicks<>(), new ProtoChunkTicks<>(),
+                heightAccessor, null, null);
+    }
+
+    private static BlockState getFloorState(final int y, final RandomSource floorRandom) {
+        // Like the vanilla overworld: a solid bottom layer, then bedrock
+        // getting sparser over the next layers, deepslate and stone above.
+        final var layer = y - MIN_BUILD_HEIGHT;
+        if (layer == 0 || (layer < BEDROCK_LAYERS && floorRandom.nextInt(BEDROCK_LAYERS) >= layer)) {
+            return Blocks.BEDROCK.defaultBlockState();
+        }
+        if (y < 0) {
+            return Blocks.DEEPSLATE.defaultBlockState();
+        }
+        if (y < 64) {
+            return Blocks.STONE.defaultBlockState();
+        }
+        return Blocks.AIR.defaultBlockState();
+    }
+}
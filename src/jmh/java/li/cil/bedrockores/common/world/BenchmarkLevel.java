@@ -0,0 +1,303 @@
+package li.cil.bedrockores.common.world;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import li.cil.bedrockores.common.block.entity.BedrockOreBlockEntity;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.core.Holder;
+import net.minecraft.core.RegistryAccess;
+import net.minecraft.core.SectionPos;
+import net.minecraft.core.particles.ParticleOptions;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.sounds.SoundEvent;
+import net.minecraft.sounds.SoundSource;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.DifficultyInstance;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.flag.FeatureFlagSet;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.WorldGenLevel;
+import net.minecraft.world.level.biome.Biome;
+import net.minecraft.world.level.biome.BiomeManager;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.entity.BlockEntityType;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.border.WorldBorder;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.ChunkSource;
+import net.minecraft.world.level.chunk.ChunkStatus;
+import net.minecraft.world.level.chunk.ProtoChunk;
+import net.minecraft.world.level.dimension.DimensionType;
+import net.minecraft.world.level.entity.EntityTypeTest;
+import net.minecraft.world.level.gameevent.GameEvent;
+import net.minecraft.world.level.levelgen.Heightmap;
+import net.minecraft.world.level.lighting.LevelLightEngine;
+import net.minecraft.world.level.material.Fluid;
+import net.minecraft.world.level.material.FluidState;
+import net.minecraft.world.level.storage.LevelData;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.Vec3;
+import net.minecraft.world.ticks.LevelTickAccess;
+
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.function.Predicate;
+
+// 3x3 proto chunks around chunk (0, 0). The chunks are never written to, so the
+// floor stays the same; placed ores only get a block entity.
+final class BenchmarkLevel implements WorldGenLevel {
+    private final ProtoChunk[] chunks;
+    private final BlockState bedrockOreState;
+    private final BlockEntityType<BedrockOreBlockEntity> bedrockOreType;
+    private final Long2ObjectMap<BlockEntity> blockEntities = new Long2ObjectOpenHashMap<>();
+
+    // --------------------------------------------------------------------- //
+
+    @SuppressWarnings("ConstantConditions") // .build(null) is fine
+    BenchmarkLevel(final ProtoChunk[] chunks, final BlockState bedrockOreState) {
+        this.chunks = chunks;
+        this.bedrockOreState = bedrockOreState;
+        this.bedrockOreType = BlockEntityType.Builder.of(this::createBedrockOre, bedrockOreState.getBlock()).build(null);
+    }
+
+    void reset() {
+        blockEntities.clear();
+    }
+
+    static int getChunkIndex(final int chunkX, final int chunkZ) {
+        return (chunkZ + 1) * 3 + (chunkX + 1);
+    }
+
+    // --------------------------------------------------------------------- //
+    // Used by the feature
+
+    @Override
+    public ChunkAccess getChunk(final int x, final int z, final ChunkStatus status, final boolean require) {
+        return chunks[getChunkIndex(x, z)];
+    }
+
+    @Override
+    public boolean hasChunk(final int x, final int z) {
+        return x >= -1 && x <= 1 && z >= -1 && z <= 1;
+    }
+
+    @Override
+    public BlockState getBlockState(final BlockPos pos) {
+        return getChunk(SectionPos.blockToSectionCoord(pos.getX()), SectionPos.blockToSectionCoord(pos.getZ())).getBlockState(pos);
+    }
+
+    @Override
+    public FluidState getFluidState(final BlockPos pos) {
+        return getBlockState(pos).getFluidState();
+    }
+
+    @Override
+    public boolean setBlock(final BlockPos pos, final BlockState state, final int flags, final int recursionLeft) {
+        if (state == bedrockOreState) {
+            final var immutablePos = pos.immutable();
+            blockEntities.put(immutablePos.asLong(), createBedrockOre(immutablePos, state));
+        }
+        return true;
+    }
+
+    @Nullable
+    @Override
+    public BlockEntity getBlockEntity(final BlockPos pos) {
+        return blockEntities.get(pos.asLong());
+    }
+
+    @Override
+    public int getHeight() {
+        return chunks[0].getHeight();
+    }
+
+    @Override
+    public int getMinBuildHeight() {
+        return chunks[0].getMinBuildHeight();
+    }
+
+    @Override
+    public boolean isClientSide() {
+        return false;
+    }
+
+    @Override
+    public boolean isStateAtPosition(final BlockPos pos, final Predicate<BlockState> predicate) {
+        return predicate.test(getBlockState(pos));
+    }
+
+    @Override
+    public boolean isFluidAtPosition(final BlockPos pos, final Predicate<FluidState> predicate) {
+        return predicate.test(getFluidState(pos));
+    }
+
+    // --------------------------------------------------------------------- //
+    // Unsupported
+
+    @Override
+    public long getSeed() {
+        throw unsupported();
+    }
+
+    @Override
+    public ServerLevel getLevel() {
+        throw unsupported();
+    }
+
+    @Override
+    public long nextSubTickCount() {
+        throw unsupported();
+    }
+
+    @Override
+    public LevelTickAccess<Block> getBlockTicks() {
+        throw unsupported();
+    }
+
+    @Override
+    public LevelTickAccess<Fluid> getFluidTicks() {
+        throw unsupported();
+    }
+
+    @Override
+    public LevelData getLevelData() {
+        throw unsupported();
+    }
+
+    @Override
+    public DifficultyInstance getCurrentDifficultyAt(final BlockPos pos) {
+        throw unsupported();
+    }
+
+    @Nullable
+    @Override
+    public MinecraftServer getServer() {
+        return null;
+    }
+
+    @Override
+    public ChunkSource getChunkSource() {
+        throw unsupported();
+    }
+
+    @Override
+    public RandomSource getRandom() {
+        throw unsupported();
+    }
+
+    @Override
+    public void playSound(@Nullable final Player player, final BlockPos pos, final SoundEvent sound, final SoundSource source, final float volume, final float pitch) {
+    }
+
+    @Override
+    public void addParticle(final ParticleOptions particle, final double x, final double y, final double z, final double xSpeed, final double ySpeed, final double zSpeed) {
+    }
+
+    @Override
+    public void levelEvent(@Nullable final Player player, final int type, final BlockPos pos, final int data) {
+    }
+
+    @Override
+    public void gameEvent(final GameEvent event, final Vec3 position, final GameEvent.Context context) {
+    }
+
+    @Override
+    public List<Entity> getEntities(@Nullable final Entity entity, final AABB area, final Predicate<? super Entity> predicate) {
+        return List.of();
+    }
+
+    @Override
+    public <T extends Entity> List<T> getEntities(final EntityTypeTest<Entity, T> test, final AABB area, final Predicate<? super T> predicate) {
+        return List.of();
+    }
+
+    @Override
+    public List<? extends Player> players() {
+        return List.of();
+    }
+
+    @Override
+    public int getHeight(final Heightmap.Types type, final int x, final int z) {
+        throw unsupported();
+    }
+
+    @Override
+    public int getSkyDarken() {
+        throw unsupported();
+    }
+
+    @Override
+    public BiomeManager getBiomeManager() {
+        throw unsupported();
+    }
+
+    @Override
+    public Holder<Biome> getUncachedNoiseBiome(final int x, final int y, final int z) {
+        throw unsupported();
+    }
+
+    @Override
+    public int getSeaLevel() {
+        throw unsupported();
+    }
+
+    @Override
+    public DimensionType dimensionType() {
+        throw unsupported();
+    }
+
+    @Override
+    public RegistryAccess registryAccess() {
+        throw unsupported();
+    }
+
+    @Override
+    public FeatureFlagSet enabledFeatures() {
+        throw unsupported();
+    }
+
+    @Override
+    public float getShade(final Direction direction, final boolean shade) {
+        throw unsupported();
+    }
+
+    @Override
+    public LevelLightEngine getLightEngine() {
+        throw unsupported();
+    }
+
+    @Override
+    public WorldBorder getWorldBorder() {
+        throw unsupported();
+    }
+
+    @Nullable
+    @Override
+    public BlockGetter getChunkForCollisions(final int chunkX, final int chunkZ) {
+        throw unsupported();
+    }
+
+    @Override
+    public boolean removeBlock(final BlockPos pos, final boolean isMoving) {
+        throw unsupported();
+    }
+
+    @Override
+    public boolean destroyBlock(final BlockPos pos, final boolean drop, @Nullable final Entity entity, final int recursionLeft) {
+        throw unsupported();
+    }
+
+    // --------------------------------------------------------------------- //
+
+    private BedrockOreBlockEntity createBedrockOre(final BlockPos pos, final BlockState state) {
+        return new BedrockOreBlockEntity(bedrockOreType, pos, state);
+    }
+
+    private static UnsupportedOperationException unsupported() {
+        return new UnsupportedOperationException("Not supported by the benchmark level.");
+    }
+}
@@ -4,51 +4,56 @@ import com.mojang.blaze3d.vertex.Tesselator;
 import li.cil.bedrockores.common.block.entity.BlockEntityWithInfo;
 import li.cil.bedrockores.common.config.Constants;
 import li.cil.bedrockores.common.config.Settings;
+import li.cil.bedrockores.common.network.Network;
+import li.cil.bedrockores.common.network.message.InfoSubscribeMessage;
+import li.cil.bedrockores.common.network.message.InfoUnsubscribeMessage;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.Font;
 import net.minecraft.client.renderer.LightTexture;
 import net.minecraft.client.renderer.MultiBufferSource;
 import net.minecraft.client.renderer.entity.EntityRenderDispatcher;
+import net.minecraft.core.BlockPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.Level;
 import net.minecraft.world.phys.BlockHitResult;
 import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.client.event.ClientPlayerNetworkEvent;
 import net.minecraftforge.client.event.RenderLevelStageEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod;
 
+import javax.annotation.Nullable;
+
 @Mod.EventBusSubscriber(value = Dist.CLIENT, bus = Mod.EventBusSubscriber.Bus.FORGE, modid = Constants.MOD_ID)
 public final class BlockEntityInfoRenderer {
+    // The position we last subscribed to for info updates, if any.
+    @Nullable private static ResourceKey<Level> subscribedDimension;
+    @Nullable private static BlockPos subscribedPos;
+    private static boolean isAwaitingInfo;
+
+    // --------------------------------------------------------------------- //
+
     @SubscribeEvent
     public static void onWorldRender(final RenderLevelStageEvent event) {
         if (event.getStage() != RenderLevelStageEvent.Stage.AFTER_TRANSLUCENT_BLOCKS) {
             return;
         }
 
-        final var mc = Minecraft.getInstance();
-        final var player = mc.player;
-        if (player == null) {
-            return;
-        }
-
-        final var level = player.level;
-
-        if (Settings.uiOnlyWhenSneaking.get() && !player.isCrouching()) {
-            return;
-        }
-
-        if (!(mc.hitResult instanceof final BlockHitResult hit)) {
-            return;
-        }
-
-        final var blockPos = hit.getBlockPos();
-        if (!(level.getBlockEntity(blockPos) instanceof BlockEntityWithInfo info)) {
+        final var info = getLookAtBlockEntity();
+        updateSubscription(info);
+        if (info == null) {
             return;
         }
 
-        final var text = info.getLookAtInfo();
+        final var level = info.getLevel();
+        final var text = level != null ? LookAtInfoCache.get(level.dimension(), info.getBlockPos()) : null;
         if (text == null) {
             return;
         }
 
+        final var mc = Minecraft.getInstance();
+        final var blockPos = info.getBlockPos();
+
         final var stack = event.getPoseStack();
         stack.pushPose();
 
@@ -85,4 +90,76 @@ public final class BlockEntityInfoRenderer {
 
         stack.popPose();
     }
+
+    @SubscribeEvent
+    public static void onLoggingOut(final ClientPlayerNetworkEvent.LoggingOut event) {
+        subscribedDimension = null;
+        subscribedPos = null;
+        isAwaitingInfo = false;
+        LookAtInfoCache.clear();
+    }
+
+    // --------------------------------------------------------------------- //
+
+    @Nullable
+    private static BlockEntityWithInfo getLookAtBlockEntity() {
+        final var mc = Minecraft.getInstance();
+        final var player = mc.player;
+        if (player == null) {
+            return null;
+        }
+
+        if (Settings.uiOnlyWhenSneaking.get() && !player.isCrouching()) {
+            return null;
+        }
+
+        if (!(mc.hitResult instanceof final BlockHitResult hit)) {
+            return null;
+        }
+
+        if (!(player.level.getBlockEntity(hit.getBlockPos()) instanceof BlockEntityWithInfo info)) {
+            return null;
+        }
+
+        return info;
+    }
+
+    private static void updateSubscription(@Nullable final BlockEntityWithInfo info) {
+        final var level = info != null ? info.getLevel() : null;
+        if (info == null || level == null) {
+            if (subscribedPos != null) {
+                Network.sendToServer(new InfoUnsubscribeMessage());
+                setSubscription(null, null);
+            }
+            return;
+        }
+
+        final var dimension = level.dimension();
+        final var pos = info.getBlockPos();
+        if (dimension == subscribedDimension && pos.equals(subscribedPos)) {
+            // Block entities being recreated for the same position, e.g. due to
+            // their chunk being reloaded, keep the subscription. If the info got
+            // dropped from the cache, the block was replaced and the server ended
+            // the subscription, so we need to subscribe again.
+            if (LookAtInfoCache.get(dimension, pos) != null) {
+                isAwaitingInfo = false;
+                return;
+            }
+            if (isAwaitingInfo) {
+                return;
+            }
+        }
+
+        // Subscribing to another block implicitly ends the previous subscription.
+        Network.sendToServer(new InfoSubscribeMessage(pos));
+        setSubscription(dimension, pos.immutable());
+        isAwaitingInfo = true;
+    }
+
+    private static void setSubscription(@Nullable final ResourceKey<Level> dimension, @Nullable final BlockPos pos) {
+        subscribedDimension = dimension;
+        subscribedPos = pos;
+        isAwaitingInfo = false;
+        LookAtInfoCache.setLive(dimension, pos);
+    }
 }
@@ -0,0 +1,101 @@
+package li.cil.bedrockores.client.render;
+
+import li.cil.bedrockores.common.block.entity.LookAtInfo;
+import net.minecraft.Util;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.chat.Component;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.Level;
+
+import javax.annotation.Nullable;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Keyed by dimension and position, so info outlives block entities getting
+// recreated when their chunk reloads.
+public final class LookAtInfoCache {
+    private static final int MAX_ENTRIES = 1024;
+    private static final long TIME_TO_LIVE = 30 * 1000; // in milliseconds
+
+    private static final Map<Key, Entry> ENTRIES = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Key, Entry> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    // The position the client is subscribed to, if any.
+    @Nullable private static Key liveKey;
+
+    // --------------------------------------------------------------------- //
+
+    @Nullable
+    public static Component get(final ResourceKey<Level> dimension, final BlockPos pos) {
+        final var key = new Key(dimension, pos.asLong());
+        final var entry = ENTRIES.get(key);
+        if (entry == null) {
+            return null;
+        }
+
+        if (!key.equals(liveKey) && Util.getMillis() - entry.lastConfirmed > TIME_TO_LIVE) {
+            ENTRIES.remove(key);
+            return null;
+        }
+
+        return entry.text;
+    }
+
+    public static void put(final ResourceKey<Level> dimension, final BlockPos pos, @Nullable final LookAtInfo info) {
+        final var key = new Key(dimension, pos.asLong());
+        if (info == null) {
+            ENTRIES.remove(key);
+            return;
+        }
+
+        final var entry = ENTRIES.computeIfAbsent(key, ignored -> new Entry());
+        entry.text = info.toComponent();
+        entry.lastConfirmed = Util.getMillis();
+    }
+
+    public static void setLive(@Nullable final ResourceKey<Level> dimension, @Nullable final BlockPos pos) {
+        final var key = dimension != null && pos != null ? new Key(dimension, pos.asLong()) : null;
+        if (liveKey != null && !liveKey.equals(key)) {
+            // Info was current up until now, start expiring it from here.
+            final var entry = ENTRIES.get(liveKey);
+            if (entry != null) {
+                entry.lastConfirmed = Util.getMillis();
+            }
+        }
+        liveKey = key;
+    }
+
+    // The entry we're subscribed to is kept current by the server, keep it.
+    public static void invalidate(final ResourceKey<Level> dimension, final BlockPos pos) {
+        final var key = new Key(dimension, pos.asLong());
+        if (!key.equals(liveKey)) {
+            ENTRIES.remove(key);
+        }
+    }
+
+    public static void remove(final ResourceKey<Level> dimension, final BlockPos pos) {
+        ENTRIES.remove(new Key(dimension, pos.asLong()));
+    }
+
+    public static void clear() {
+        ENTRIES.clear();
+        liveKey = null;
+    }
+
+    // --------------------------------------------------------------------- //
+
+    private record Key(ResourceKey<Level> dimension, long pos) {
+    }
+
+    private static final class Entry {
+        public Component text = Component.empty();
+        public long lastConfirmed;
+    }
+
+    private LookAtInfoCache() {
+    }
+}
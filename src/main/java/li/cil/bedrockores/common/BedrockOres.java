@@ -1,11 +1,15 @@
 package li.cil.bedrockores.common;
 
 import li.cil.bedrockores.common.block.Blocks;
+import li.cil.bedrockores.common.block.entity.BedrockOreLookup;
 import li.cil.bedrockores.common.block.entity.BlockEntities;
+import li.cil.bedrockores.common.block.entity.InfoSubscriptions;
+import li.cil.bedrockores.common.block.entity.MinerScheduler;
 import li.cil.bedrockores.common.command.ModCommands;
 import li.cil.bedrockores.common.config.Constants;
 import li.cil.bedrockores.common.config.Settings;
 import li.cil.bedrockores.common.item.Items;
+import li.cil.bedrockores.common.network.InfoRequestThrottle;
 import li.cil.bedrockores.common.network.Network;
 import li.cil.bedrockores.common.sound.Sounds;
 import li.cil.bedrockores.common.world.BedrockOreFeatures;
@@ -19,9 +23,13 @@ public final class BedrockOres {
         Settings.initialize();
 
         Network.initialize();
+        InfoRequestThrottle.initialize();
 
         Blocks.initialize();
         BlockEntities.initialize();
+        MinerScheduler.initialize();
+        BedrockOreLookup.initialize();
+        InfoSubscriptions.initialize();
         Items.initialize();
         Sounds.initialize();
         BedrockOreFeatures.initialize();
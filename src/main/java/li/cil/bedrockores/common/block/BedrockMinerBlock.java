@@ -2,15 +2,20 @@ package li.cil.bedrockores.common.block;
 
 import li.cil.bedrockores.common.block.entity.BedrockOreMinerBlockEntity;
 import li.cil.bedrockores.common.block.entity.BlockEntities;
+import li.cil.bedrockores.common.block.entity.MinerScheduler;
 import li.cil.bedrockores.common.config.Constants;
 import net.minecraft.core.BlockPos;
 import net.minecraft.network.chat.Component;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.RandomSource;
 import net.minecraft.world.Containers;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.TooltipFlag;
 import net.minecraft.world.level.BlockGetter;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.LevelReader;
 import net.minecraft.world.level.block.BaseEntityBlock;
+import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.RenderShape;
 import net.minecraft.world.level.block.SoundType;
 import net.minecraft.world.level.block.entity.BlockEntity;
@@ -43,6 +48,8 @@ public final class BedrockMinerBlock extends BaseEntityBlock {
     public <T extends BlockEntity> BlockEntityTicker<T> getTicker(final Level level, final BlockState state, final BlockEntityType<T> type) {
         if (level.isClientSide()) {
             return createTickerHelper(type, BlockEntities.MINER.get(), BedrockOreMinerBlockEntity::clientTick);
+        } else if (MinerScheduler.isEnabled()) {
+            return null; // Updated by the scheduler instead.
         } else {
             return createTickerHelper(type, BlockEntities.MINER.get(), BedrockOreMinerBlockEntity::serverTick);
         }
@@ -72,6 +79,24 @@ public final class BedrockMinerBlock extends BaseEntityBlock {
         }
     }
 
+    @SuppressWarnings("deprecation")
+    @Override
+    public void tick(final BlockState state, final ServerLevel level, final BlockPos pos, final RandomSource random) {
+        // Scheduled by sleeping miners that want to retry transferring their output.
+        if (level.getBlockEntity(pos) instanceof BedrockOreMinerBlockEntity miner) {
+            miner.wakeUp();
+        }
+    }
+
+    @SuppressWarnings("deprecation")
+    @Override
+    public void neighborChanged(final BlockState state, final Level level, final BlockPos pos, final Block block, final BlockPos fromPos, final boolean isMoving) {
+        super.neighborChanged(state, level, pos, block, fromPos, isMoving);
+        if (!level.isClientSide() && level.getBlockEntity(pos) instanceof BedrockOreMinerBlockEntity miner) {
+            miner.handleNeighborChanged(fromPos);
+        }
+    }
+
     @SuppressWarnings("deprecation")
     @Override
     public void onRemove(final BlockState oldState, final Level level, final BlockPos pos, final BlockState newState, final boolean movedByPiston) {
@@ -91,4 +116,14 @@ public final class BedrockMinerBlock extends BaseEntityBlock {
         super.appendHoverText(stack, level, tooltip, flags);
         tooltip.add(Component.translatable(Constants.TOOLTIP_BEDROCK_MINER));
     }
+
+    // --------------------------------------------------------------------- //
+    // IForgeBlock
+
+    @Override
+    public void onNeighborChange(final BlockState state, final LevelReader level, final BlockPos pos, final BlockPos neighbor) {
+        if (!level.isClientSide() && level.getBlockEntity(pos) instanceof BedrockOreMinerBlockEntity miner) {
+            miner.handleNeighborContentsChanged(neighbor);
+        }
+    }
 }
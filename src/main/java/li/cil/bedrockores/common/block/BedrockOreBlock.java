@@ -1,6 +1,7 @@
 package li.cil.bedrockores.common.block;
 
 import li.cil.bedrockores.common.block.entity.BedrockOreBlockEntity;
+import li.cil.bedrockores.common.block.entity.BedrockOreLookup;
 import li.cil.bedrockores.common.block.entity.BlockEntities;
 import li.cil.bedrockores.common.config.Settings;
 import net.minecraft.core.BlockPos;
@@ -75,8 +76,12 @@ public final class BedrockOreBlock extends BaseEntityBlock {
         if (tileEntity instanceof BedrockOreBlockEntity bedrockOre) {
             final var oreBlockState = bedrockOre.getOreBlockState();
 
-            // Ignore result, expect drops to be handled by underlying ore.
-            bedrockOre.extract();
+            // Ignore result, expect drops to be handled by underlying ore. But
+            // don't drop anything if there was nothing left to extract. Clients
+            // never extract, they still need to run the break effects.
+            if (!level.isClientSide() && bedrockOre.extract().isEmpty()) {
+                return false;
+            }
 
             oreBlockState.getBlock().playerWillDestroy(level, pos, oreBlockState, player);
             oreBlockState.getBlock().playerDestroy(level, player, pos, oreBlockState, null, player.getMainHandItem().copy());
@@ -94,7 +99,7 @@ public final class BedrockOreBlock extends BaseEntityBlock {
     @SuppressWarnings("deprecation")
     @Override
     public int getLightBlock(final BlockState state, final BlockGetter level, final BlockPos pos) {
-        final var ore = getOreBlockState(level.getBlockEntity(pos));
+        final var ore = getOreBlockState(level, pos);
         if (ore != null) {
             return ore.getLightBlock(level, pos);
         } else {
@@ -105,7 +110,7 @@ public final class BedrockOreBlock extends BaseEntityBlock {
     @SuppressWarnings("deprecation")
     @Override
     public float getDestroyProgress(final BlockState state, final Player player, final BlockGetter level, final BlockPos pos) {
-        final var ore = getOreBlockState(level.getBlockEntity(pos));
+        final var ore = getOreBlockState(level, pos);
         if (ore != null) {
             return ore.getDestroyProgress(player, level, pos);
         } else {
@@ -118,7 +123,7 @@ public final class BedrockOreBlock extends BaseEntityBlock {
 
     @Override
     public float getFriction(final BlockState state, final LevelReader level, final BlockPos pos, @Nullable final Entity entity) {
-        final var ore = getOreBlockState(level.getBlockEntity(pos));
+        final var ore = getOreBlockState(level, pos);
         if (ore != null) {
             return ore.getFriction(level, pos, entity);
         } else {
@@ -129,7 +134,7 @@ public final class BedrockOreBlock extends BaseEntityBlock {
 
     @Override
     public int getLightEmission(final BlockState state, final BlockGetter level, final BlockPos pos) {
-        final var ore = getOreBlockState(level.getBlockEntity(pos));
+        final var ore = getOreBlockState(level, pos);
         if (ore != null) {
             return ore.getLightEmission(level, pos);
         } else {
@@ -139,7 +144,7 @@ public final class BedrockOreBlock extends BaseEntityBlock {
 
     @Override
     public boolean canHarvestBlock(final BlockState state, final BlockGetter level, final BlockPos pos, final Player player) {
-        final var ore = getOreBlockState(level.getBlockEntity(pos));
+        final var ore = getOreBlockState(level, pos);
         if (ore != null) {
             return ore.canHarvestBlock(level, pos, player);
         } else {
@@ -149,7 +154,7 @@ public final class BedrockOreBlock extends BaseEntityBlock {
 
     @Override
     public boolean isValidSpawn(final BlockState state, final BlockGetter level, final BlockPos pos, final SpawnPlacements.Type type, final EntityType<?> entityType) {
-        final var ore = getOreBlockState(level.getBlockEntity(pos));
+        final var ore = getOreBlockState(level, pos);
         if (ore != null) {
             return ore.isValidSpawn(level, pos, entityType);
         } else {
@@ -159,7 +164,7 @@ public final class BedrockOreBlock extends BaseEntityBlock {
 
     @Override
     public ItemStack getCloneItemStack(final BlockState state, final HitResult target, final BlockGetter level, final BlockPos pos, final Player player) {
-        final var ore = getOreBlockState(level.getBlockEntity(pos));
+        final var ore = getOreBlockState(level, pos);
         if (ore != null) {
             return ore.getCloneItemStack(target, level, pos, player);
         } else {
@@ -169,7 +174,7 @@ public final class BedrockOreBlock extends BaseEntityBlock {
 
     @Override
     public boolean addLandingEffects(final BlockState state, final ServerLevel level, final BlockPos pos, final BlockState stateOverride, final LivingEntity entity, final int numberOfParticles) {
-        final var ore = getOreBlockState(level.getBlockEntity(pos));
+        final var ore = getOreBlockState(level, pos);
         if (ore != null) {
             return ore.addLandingEffects(level, pos, stateOverride, entity, numberOfParticles);
         } else {
@@ -179,7 +184,7 @@ public final class BedrockOreBlock extends BaseEntityBlock {
 
     @Override
     public boolean addRunningEffects(final BlockState state, final Level level, final BlockPos pos, final Entity entity) {
-        final var ore = getOreBlockState(level.getBlockEntity(pos));
+        final var ore = getOreBlockState(level, pos);
         if (ore != null) {
             return ore.addRunningEffects(level, pos, entity);
         } else {
@@ -189,7 +194,7 @@ public final class BedrockOreBlock extends BaseEntityBlock {
 
     @Override
     public int getExpDrop(final BlockState state, final LevelReader level, final RandomSource randomSource, final BlockPos pos, final int fortuneLevel, final int silkTouchLevel) {
-        final var ore = getOreBlockState(level.getBlockEntity(pos));
+        final var ore = getOreBlockState(level, pos);
         if (ore != null) {
             return ore.getExpDrop(level, randomSource, pos, fortuneLevel, silkTouchLevel);
         } else {
@@ -199,7 +204,7 @@ public final class BedrockOreBlock extends BaseEntityBlock {
 
     @Override
     public SoundType getSoundType(final BlockState state, final LevelReader level, final BlockPos pos, @org.jetbrains.annotations.Nullable final Entity entity) {
-        final var ore = getOreBlockState(level.getBlockEntity(pos));
+        final var ore = getOreBlockState(level, pos);
         if (ore != null) {
             return ore.getSoundType(level, pos, entity);
         } else {
@@ -214,7 +219,7 @@ public final class BedrockOreBlock extends BaseEntityBlock {
 
     @Override
     public MaterialColor getMapColor(final BlockState state, final BlockGetter level, final BlockPos pos, final MaterialColor defaultColor) {
-        final var ore = getOreBlockState(level.getBlockEntity(pos));
+        final var ore = getOreBlockState(level, pos);
         if (ore != null) {
             return ore.getMapColor(level, pos);
         } else {
@@ -224,7 +229,7 @@ public final class BedrockOreBlock extends BaseEntityBlock {
 
     @Override
     public BlockState getAppearance(final BlockState state, final BlockAndTintGetter level, final BlockPos pos, final Direction side, @org.jetbrains.annotations.Nullable final BlockState queryState, @org.jetbrains.annotations.Nullable final BlockPos queryPos) {
-        final var ore = getOreBlockState(level.getBlockEntity(pos));
+        final var ore = getOreBlockState(level, pos);
         if (ore != null) {
             return ore.getAppearance(level, pos, side, queryState, queryPos);
         } else {
@@ -235,8 +240,9 @@ public final class BedrockOreBlock extends BaseEntityBlock {
     // --------------------------------------------------------------------- //
 
     @Nullable
-    private static BlockState getOreBlockState(@Nullable final BlockEntity tileEntity) {
-        if (tileEntity instanceof BedrockOreBlockEntity bedrockOre) {
+    private static BlockState getOreBlockState(final BlockGetter level, final BlockPos pos) {
+        final var bedrockOre = BedrockOreLookup.get(level, pos);
+        if (bedrockOre != null) {
             return bedrockOre.getOreBlockState();
         }
         return null;
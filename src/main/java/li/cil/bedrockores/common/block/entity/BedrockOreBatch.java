@@ -0,0 +1,71 @@
+package li.cil.bedrockores.common.block.entity;
+
+import it.unimi.dsi.fastutil.longs.Long2BooleanLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2BooleanMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.server.level.ServerChunkCache;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.state.BlockState;
+
+// Defers block updates and light checks for many ore state changes, e.g. from
+// commands, until closed. Server side only.
+public final class BedrockOreBatch implements AutoCloseable {
+    private final Level level;
+
+    // Section key to block position keys, mapped to whether lighting may have changed.
+    private final Long2ObjectMap<Long2BooleanMap> changedPositions = new Long2ObjectLinkedOpenHashMap<>();
+
+    // --------------------------------------------------------------------- //
+
+    public static BedrockOreBatch begin(final Level level) {
+        return new BedrockOreBatch(level);
+    }
+
+    public void setOreBlockState(final BedrockOreBlockEntity bedrockOre, final BlockState state) {
+        bedrockOre.setOreBlockState(state, level.isClientSide() ? null : this);
+    }
+
+    // --------------------------------------------------------------------- //
+    // AutoCloseable
+
+    @Override
+    public void close() {
+        if (changedPositions.isEmpty()) {
+            return;
+        }
+
+        final var chunkSource = (ServerChunkCache) level.getChunkSource();
+        final var lightEngine = chunkSource.getLightEngine();
+        final var pos = new BlockPos.MutableBlockPos();
+        for (final var section : changedPositions.values()) {
+            for (final var entry : section.long2BooleanEntrySet()) {
+                pos.set(entry.getLongKey());
+                // Unlike Level.sendBlockUpdated, this only records the change in
+                // the chunk holder, which collects changes per section.
+                chunkSource.blockChanged(pos);
+                if (entry.getBooleanValue()) {
+                    lightEngine.checkBlock(pos);
+                }
+            }
+        }
+
+        changedPositions.clear();
+    }
+
+    // --------------------------------------------------------------------- //
+
+    void markChanged(final BlockPos pos, final boolean isLightChanged) {
+        final var section = changedPositions.computeIfAbsent(SectionPos.asLong(pos), ignored -> new Long2BooleanLinkedOpenHashMap());
+        final var key = pos.asLong();
+        section.put(key, isLightChanged || section.get(key));
+    }
+
+    // --------------------------------------------------------------------- //
+
+    private BedrockOreBatch(final Level level) {
+        this.level = level;
+    }
+}
@@ -1,26 +1,31 @@
 package li.cil.bedrockores.common.block.entity;
 
 import li.cil.bedrockores.client.render.Ore;
-import li.cil.bedrockores.common.config.Constants;
+import li.cil.bedrockores.common.block.BedrockOreBlock;
 import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.NbtOps;
-import net.minecraft.network.chat.Component;
+import net.minecraft.nbt.Tag;
 import net.minecraft.network.protocol.Packet;
 import net.minecraft.network.protocol.game.ClientGamePacketListener;
 import net.minecraft.network.protocol.game.ClientboundBlockEntityDataPacket;
+import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraftforge.client.model.data.ModelData;
+import net.minecraftforge.items.ItemHandlerHelper;
 import org.jetbrains.annotations.NotNull;
 
+import javax.annotation.Nullable;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.util.Objects.requireNonNull;
-import static li.cil.bedrockores.common.block.Blocks.BEDROCK_ORE;
 
 public final class BedrockOreBlockEntity extends BlockEntityWithInfo {
     // --------------------------------------------------------------------- //
@@ -35,12 +40,24 @@ public final class BedrockOreBlockEntity extends BlockEntityWithInfo {
     private static final String TAG_STATE = "state";
     private static final String TAG_AMOUNT = "amount";
 
-    private ItemStack droppedStack = ItemStack.EMPTY;
+    // Encoding block states via their codec is comparatively expensive, and
+    // there are only a few distinct ore states, so we cache the results.
+    private static final Map<BlockState, Tag> ENCODED_STATES = new ConcurrentHashMap<>();
+    private static final Map<Tag, BlockState> DECODED_STATES = new ConcurrentHashMap<>();
+
+    // There may be very many bedrock ores, so instead of each one keeping its
+    // own stack, all ores wrapping the same block share one.
+    private static final Map<Item, ItemStack> DROPPED_STACKS = new ConcurrentHashMap<>();
 
     // --------------------------------------------------------------------- //
 
     public BedrockOreBlockEntity(final BlockPos pos, final BlockState state) {
-        super(BlockEntities.BEDROCK_ORE.get(), pos, state);
+        this(BlockEntities.BEDROCK_ORE.get(), pos, state);
+    }
+
+    // For creating ores without the mod's registries, e.g. in benchmarks.
+    public BedrockOreBlockEntity(final BlockEntityType<?> type, final BlockPos pos, final BlockState state) {
+        super(type, pos, state);
     }
 
     // --------------------------------------------------------------------- //
@@ -50,7 +67,11 @@ public final class BedrockOreBlockEntity extends BlockEntityWithInfo {
     }
 
     public void setOreBlockState(final BlockState state) {
-        if (state.is(BEDROCK_ORE.get())) {
+        setOreBlockState(state, null);
+    }
+
+    void setOreBlockState(final BlockState state, @Nullable final BedrockOreBatch batch) {
+        if (state.getBlock() instanceof BedrockOreBlock) {
             throw new IllegalArgumentException("Bedrock ore cannot contain itself.");
         }
 
@@ -59,59 +80,119 @@ public final class BedrockOreBlockEntity extends BlockEntityWithInfo {
         }
 
         final var oldState = oreBlockState;
+        final var oldAmount = getAmount();
 
         oreBlockState = state;
-        droppedStack = new ItemStack(state.getBlock().asItem());
+
+        notifyAmountChanged(oldAmount);
 
         final var level = getLevel();
         if (level != null) {
+            final var isLightChanged = oreBlockState.getLightEmission(level, getBlockPos()) != oldState.getLightEmission(level, getBlockPos()) ||
+                    oreBlockState.getLightBlock(level, getBlockPos()) != oldState.getLightBlock(level, getBlockPos());
+            if (batch != null) {
+                setChanged();
+                batch.markChanged(getBlockPos(), isLightChanged);
+                return;
+            }
+
             if (level.isClientSide()) {
                 setChangedAndSendUpdateClient();
             } else {
                 setChangedAndSendUpdateServer();
             }
-            if (oreBlockState.getLightEmission(level, getBlockPos()) != oldState.getLightEmission(level, getBlockPos()) ||
-                    oreBlockState.getLightBlock(level, getBlockPos()) != oldState.getLightBlock(level, getBlockPos())) {
+            if (isLightChanged) {
                 level.getChunkSource().getLightEngine().checkBlock(getBlockPos());
             }
         }
     }
 
+    // For world generation: no miner notifications, block updates or light checks.
+    public void initialize(final BlockState state, final int amount) {
+        if (state.getBlock() instanceof BedrockOreBlock) {
+            throw new IllegalArgumentException("Bedrock ore cannot contain itself.");
+        }
+
+        this.oreBlockState = state;
+        this.amount = amount;
+    }
+
+    // Shared between ores, must not be modified.
+    public ItemStack getDroppedStack() {
+        return DROPPED_STACKS.computeIfAbsent(oreBlockState.getBlock().asItem(), ItemStack::new);
+    }
+
     public int getAmount() {
         return oreBlockState.isAir() ? 0 : amount;
     }
 
     public void setAmount(final int value) {
+        final var oldAmount = getAmount();
         amount = value;
+        notifyAmountChanged(oldAmount);
     }
 
     public ItemStack extract() {
+        return extract(1);
+    }
+
+    public ItemStack extract(final int maxCount) {
         final Level level = getLevel();
-        if (level == null || level.isClientSide()) {
+        if (level == null || level.isClientSide() || maxCount <= 0 || amount <= 0) {
             return ItemStack.EMPTY;
         }
 
-        --amount;
+        final var oldAmount = getAmount();
+        final var count = Math.min(maxCount, amount);
+        amount -= count;
+        notifyAmountChanged(oldAmount);
+
         if (amount < 1) {
             level.setBlock(getBlockPos(), Blocks.BEDROCK.defaultBlockState(), level.isClientSide() ? Block.UPDATE_ALL_IMMEDIATE : Block.UPDATE_ALL);
         } else {
             setChanged();
         }
 
-        return droppedStack.copy();
+        return ItemHandlerHelper.copyStackWithSize(getDroppedStack(), count);
     }
 
     // --------------------------------------------------------------------- //
     // BlockEntityWithInfo
 
     @Override
-    protected Component buildInfo() {
-        return Component.translatable(Constants.GUI_EXPECTED_YIELD, amount);
+    protected LookAtInfo buildInfo() {
+        return LookAtInfo.expectedYield(amount);
     }
 
     // --------------------------------------------------------------------- //
     // BlockEntity
 
+    @Override
+    public void onLoad() {
+        super.onLoad();
+
+        final var level = getLevel();
+        if (level != null) {
+            BedrockOreLookup.add(level, this);
+            if (!level.isClientSide()) {
+                MinerTracker.forEachMinerInRange(level, getBlockPos(), miner -> miner.handleOreAdded(this));
+            }
+        }
+    }
+
+    @Override
+    public void setRemoved() {
+        super.setRemoved();
+
+        final var level = getLevel();
+        if (level != null) {
+            BedrockOreLookup.remove(level, this);
+            if (!level.isClientSide()) {
+                MinerTracker.forEachMinerInRange(level, getBlockPos(), miner -> miner.handleOreRemoved(this));
+            }
+        }
+    }
+
     @Override
     public Packet<ClientGamePacketListener> getUpdatePacket() {
         return ClientboundBlockEntityDataPacket.create(this);
@@ -119,7 +200,10 @@ public final class BedrockOreBlockEntity extends BlockEntityWithInfo {
 
     @Override
     public CompoundTag getUpdateTag() {
-        return saveWithoutMetadata();
+        // Clients don't need the amount, info is requested from the server.
+        final var tag = new CompoundTag();
+        saveOreBlockState(tag);
+        return tag;
     }
 
     @Override
@@ -136,8 +220,7 @@ public final class BedrockOreBlockEntity extends BlockEntityWithInfo {
         super.saveAdditional(tag);
 
         if (oreBlockState != null) {
-            BlockState.CODEC.encodeStart(NbtOps.INSTANCE, oreBlockState)
-                    .result().ifPresent(stateNbt -> tag.put(TAG_STATE, stateNbt));
+            saveOreBlockState(tag);
             tag.putInt(TAG_AMOUNT, amount);
         }
     }
@@ -146,10 +229,12 @@ public final class BedrockOreBlockEntity extends BlockEntityWithInfo {
     public void load(final CompoundTag tag) {
         super.load(tag);
 
-        oreBlockState = BlockState.CODEC.parse(NbtOps.INSTANCE, tag.get(TAG_STATE))
-                .result().orElse(Blocks.AIR.defaultBlockState());
-        droppedStack = new ItemStack(oreBlockState.getBlock().asItem());
+        final var oldAmount = getAmount();
+
+        oreBlockState = loadOreBlockState(tag);
         amount = tag.getInt(TAG_AMOUNT);
+
+        notifyAmountChanged(oldAmount);
     }
 
     @Override
@@ -159,6 +244,36 @@ public final class BedrockOreBlockEntity extends BlockEntityWithInfo {
 
     // --------------------------------------------------------------------- //
 
+    private void saveOreBlockState(final CompoundTag tag) {
+        final var stateNbt = ENCODED_STATES.computeIfAbsent(oreBlockState, state ->
+                BlockState.CODEC.encodeStart(NbtOps.INSTANCE, state).result().orElse(null));
+        if (stateNbt != null) {
+            tag.put(TAG_STATE, stateNbt.copy());
+        }
+    }
+
+    private static BlockState loadOreBlockState(final CompoundTag tag) {
+        final var stateNbt = tag.get(TAG_STATE);
+        if (stateNbt == null) {
+            return Blocks.AIR.defaultBlockState();
+        }
+        var state = DECODED_STATES.get(stateNbt);
+        if (state == null) {
+            state = BlockState.CODEC.parse(NbtOps.INSTANCE, stateNbt).result().orElse(Blocks.AIR.defaultBlockState());
+            DECODED_STATES.put(stateNbt.copy(), state);
+        }
+        return state;
+    }
+
+    private void notifyAmountChanged(final int oldAmount) {
+        final var delta = getAmount() - oldAmount;
+        final var level = getLevel();
+        if (delta != 0 && level != null && !level.isClientSide() && !isRemoved()) {
+            MinerTracker.forEachMinerInRange(level, getBlockPos(), miner -> miner.handleOreAmountChanged(this, delta));
+            setInfoChanged();
+        }
+    }
+
     private void setChangedAndSendUpdateServer() {
         setChanged();
         requireNonNull(getLevel()).sendBlockUpdated(getBlockPos(), getBlockState(), getBlockState(), Block.UPDATE_ALL);
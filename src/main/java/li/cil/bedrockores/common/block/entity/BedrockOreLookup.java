@@ -0,0 +1,76 @@
+package li.cil.bedrockores.common.block.entity;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.Level;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.level.LevelEvent;
+
+import javax.annotation.Nullable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Flat per-level map of loaded ores, avoiding chunk lookups in the block's hot
+// forwarding methods. Only used from the level's own thread.
+public final class BedrockOreLookup {
+    private static final Map<Level, BedrockOreLookup> LOOKUPS = new ConcurrentHashMap<>();
+
+    // --------------------------------------------------------------------- //
+
+    private final Thread owner = Thread.currentThread();
+    private final Long2ObjectMap<BedrockOreBlockEntity> ores = new Long2ObjectOpenHashMap<>();
+
+    // --------------------------------------------------------------------- //
+
+    public static void initialize() {
+        MinecraftForge.EVENT_BUS.addListener(BedrockOreLookup::handleLevelUnload);
+    }
+
+    @Nullable
+    public static BedrockOreBlockEntity get(final BlockGetter getter, final BlockPos pos) {
+        if (getter instanceof Level level) {
+            final var lookup = LOOKUPS.get(level);
+            if (lookup != null && lookup.owner == Thread.currentThread()) {
+                final var bedrockOre = lookup.ores.get(pos.asLong());
+                if (bedrockOre != null) {
+                    return bedrockOre;
+                }
+            }
+        }
+
+        if (getter.getBlockEntity(pos) instanceof BedrockOreBlockEntity bedrockOre) {
+            return bedrockOre;
+        }
+
+        return null;
+    }
+
+    // --------------------------------------------------------------------- //
+
+    static void add(final Level level, final BedrockOreBlockEntity bedrockOre) {
+        final var lookup = LOOKUPS.computeIfAbsent(level, ignored -> new BedrockOreLookup());
+        if (lookup.owner == Thread.currentThread()) {
+            lookup.ores.put(bedrockOre.getBlockPos().asLong(), bedrockOre);
+        }
+    }
+
+    static void remove(final Level level, final BedrockOreBlockEntity bedrockOre) {
+        final var lookup = LOOKUPS.get(level);
+        if (lookup != null && lookup.owner == Thread.currentThread()) {
+            lookup.ores.remove(bedrockOre.getBlockPos().asLong(), bedrockOre);
+        }
+    }
+
+    // --------------------------------------------------------------------- //
+
+    private static void handleLevelUnload(final LevelEvent.Unload event) {
+        if (event.getLevel() instanceof Level level) {
+            LOOKUPS.remove(level);
+        }
+    }
+
+    private BedrockOreLookup() {
+    }
+}
@@ -1,14 +1,13 @@
 package li.cil.bedrockores.common.block.entity;
 
-import li.cil.bedrockores.common.config.Constants;
-import li.cil.bedrockores.common.config.Settings;
+import li.cil.bedrockores.common.config.MinerSettings;
 import li.cil.bedrockores.common.sound.Sounds;
 import net.minecraft.client.Minecraft;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
+import net.minecraft.core.NonNullList;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.nbt.CompoundTag;
-import net.minecraft.network.chat.Component;
 import net.minecraft.network.protocol.Packet;
 import net.minecraft.network.protocol.game.ClientGamePacketListener;
 import net.minecraft.network.protocol.game.ClientboundBlockEntityDataPacket;
@@ -35,13 +34,11 @@ import org.jetbrains.annotations.NotNull;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.time.Duration;
-import java.time.Instant;
-import java.time.temporal.TemporalAmount;
-import java.util.Spliterators;
-import java.util.function.Consumer;
-import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
 
 import static java.util.Objects.requireNonNull;
 
@@ -55,7 +52,7 @@ public final class BedrockOreMinerBlockEntity extends BlockEntityWithInfo {
 
     private int remainingBurnTime = 0;
     private int extractionCooldown = -1;
-    private int transferCooldown = 20;
+    private int transferCooldown = TRANSFER_RETRY_INTERVAL;
 
     // --------------------------------------------------------------------- //
     // Computed data
@@ -67,18 +64,29 @@ public final class BedrockOreMinerBlockEntity extends BlockEntityWithInfo {
     private static final String TAG_EXTRACTION_COOLDOWN = "extractionCooldown";
     private static final String TAG_WORKING = "working";
 
-    private static final TemporalAmount SEND_WORKING_STATE_DELAY = Duration.ofSeconds(1);
+    private static final int SEND_WORKING_STATE_DELAY = 20; // in ticks
+    private static final long NO_PENDING_UPDATE = -1;
 
     private static final int SLOT_FUEL_COUNT = 1;
-    private static final int SLOT_OUTPUT_COUNT = 6;
 
-    private static final int SCAN_RADIUS = 2; // 0 is only straight down
-    private static final int SCAN_DEPTH = 3; // 0 is empty
+    static final int SCAN_RADIUS = 2; // 0 is only straight down
+    static final int SCAN_DEPTH = 3; // 0 is empty
+    private static final int SCAN_WIDTH = SCAN_RADIUS * 2 + 1;
+    private static final int SCAN_AREA_SIZE = SCAN_WIDTH * SCAN_WIDTH * SCAN_DEPTH;
 
     private static final int RF_PER_BURN_TIME = 10;
 
     private static final int SOUND_INTERVAL = 30; // in ticks
 
+    private static final int TRANSFER_INTERVAL = 10; // in ticks
+    private static final int TRANSFER_RETRY_INTERVAL = 20; // in ticks
+
+    // Ores in the scan area, in scan order. Filled once after loading, then kept
+    // up-to-date by ores notifying us via the MinerTracker.
+    private final BedrockOreBlockEntity[] scanArea = new BedrockOreBlockEntity[SCAN_AREA_SIZE];
+    private boolean isScanAreaValid;
+    private int totalYield; // Sum of amounts of all ores in the scan area.
+
     @Nullable
     private BedrockOreBlockEntity currentOre;
     private boolean hasNoMoreOres;
@@ -86,11 +94,30 @@ public final class BedrockOreMinerBlockEntity extends BlockEntityWithInfo {
     // We delay sending the working state to clients a little to avoid small
     // hiccups causing unnecessary update packets being sent.
     private boolean isWorkingServer, isWorkingClient;
-    @Nullable
-    private Instant sendUpdateTagAfter;
+    private long sendUpdateTagAfter = NO_PENDING_UPDATE; // in game time
 
     private int soundCooldown;
 
+    // Idle miners stop ticking until something happens that may allow them to
+    // continue, such as fuel being inserted or ores appearing in range.
+    private boolean isSleeping;
+
+    // Position in the scheduler's queue, if scheduled, for constant time removal.
+    int schedulerIndex = -1;
+    @Nullable
+    private MinerSettings sleepingSettings;
+    private boolean isOutputBlocked;
+
+    // Item handler of the block entity we output into, if any. Null if it
+    // needs to be resolved again.
+    @Nullable
+    private LazyOptional<IItemHandler> outputBlockItemHandler;
+
+    // Item handlers we registered an invalidation listener with. Neighbors
+    // typically keep their handler for their whole lifetime, so we must not
+    // add another listener each time we resolve it again.
+    private final Set<LazyOptional<IItemHandler>> listenedOutputBlockItemHandlers = Collections.newSetFromMap(new WeakHashMap<>());
+
     // --------------------------------------------------------------------- //
 
     public BedrockOreMinerBlockEntity(final BlockPos pos, final BlockState state) {
@@ -103,6 +130,29 @@ public final class BedrockOreMinerBlockEntity extends BlockEntityWithInfo {
         return isWorkingServer;
     }
 
+    public void wakeUp() {
+        if (isSleeping) {
+            isSleeping = false;
+            sleepingSettings = null;
+            isOutputBlocked = false;
+            transferCooldown = 0;
+        }
+    }
+
+    public void handleNeighborChanged(final BlockPos neighborPos) {
+        // We only care about the neighbor we output into.
+        if (neighborPos.equals(getBlockPos().above())) {
+            outputBlockItemHandler = null;
+            wakeUp();
+        }
+    }
+
+    public void handleNeighborContentsChanged(final BlockPos neighborPos) {
+        if (neighborPos.equals(getBlockPos().above())) {
+            wakeUp();
+        }
+    }
+
     // --------------------------------------------------------------------- //
 
     public static void clientTick(final Level ignoredLevel, final BlockPos ignoredPos, final BlockState ignoredState, final BedrockOreMinerBlockEntity miner) {
@@ -113,27 +163,42 @@ public final class BedrockOreMinerBlockEntity extends BlockEntityWithInfo {
         miner.serverTick();
     }
 
+    void scheduledTick() {
+        serverTick();
+    }
+
     private void clientTick() {
         updateEffects();
     }
 
     private void serverTick() {
-        flushOutput();
-        if (!hasAvailableOutputSlot()) {
-            setWorking(false);
-            return;
+        if (isSleeping) {
+            // Changed settings may allow us to continue, e.g. if power is no longer required.
+            if (sleepingSettings == MinerSettings.get()) {
+                return;
+            }
+            wakeUp();
         }
 
+        validateScanArea();
+
+        flushOutput();
+
         findBedrockOre();
         if (!hasAvailableInputOre()) {
-            setWorking(false);
+            stopWorking();
+            return;
+        }
+
+        if (!hasAvailableOutputSpace()) {
+            stopWorking();
             return;
         }
 
-        if (getInternalPowerEfficiency() > 0 || getExternalPowerEfficiency() > 0) {
+        if (MinerSettings.get().isPowerRequired()) {
             updateBurnTime();
             if (!hasRemainingBurnTime()) {
-                setWorking(false);
+                stopWorking();
                 return;
             }
         }
@@ -146,21 +211,47 @@ public final class BedrockOreMinerBlockEntity extends BlockEntityWithInfo {
     // BlockEntityWithInfo
 
     @Override
-    protected Component buildInfo() {
-        final int yield = findBedrockOres().
-                map(BedrockOreBlockEntity::getAmount).
-                reduce(Integer::sum).
-                orElse(0);
-        if (yield > 0) {
-            return Component.translatable(Constants.GUI_EXPECTED_YIELD, yield);
+    protected LookAtInfo buildInfo() {
+        validateScanArea();
+
+        if (totalYield > 0) {
+            return LookAtInfo.expectedYield(totalYield);
         } else {
-            return Component.translatable(Constants.GUI_EXHAUSTED);
+            return LookAtInfo.EXHAUSTED;
         }
     }
 
     // --------------------------------------------------------------------- //
     // BlockEntity
 
+    @Override
+    public void onLoad() {
+        super.onLoad();
+
+        final var level = getLevel();
+        if (level != null && !level.isClientSide()) {
+            MinerTracker.add(level, this);
+            MinerScheduler.addIfEnabled(level, this);
+        }
+    }
+
+    @Override
+    public void setRemoved() {
+        super.setRemoved();
+
+        final var level = getLevel();
+        if (level != null && !level.isClientSide()) {
+            MinerTracker.remove(level, this);
+            MinerScheduler.remove(level, this);
+        }
+
+        Arrays.fill(scanArea, null);
+        isScanAreaValid = false;
+        totalYield = 0;
+        currentOre = null;
+        outputBlockItemHandler = null;
+    }
+
     @Override
     public Packet<ClientGamePacketListener> getUpdatePacket() {
         return ClientboundBlockEntityDataPacket.create(this);
@@ -220,6 +311,51 @@ public final class BedrockOreMinerBlockEntity extends BlockEntityWithInfo {
 
     // --------------------------------------------------------------------- //
 
+    void handleOreAdded(final BedrockOreBlockEntity bedrockOre) {
+        if (!isScanAreaValid) {
+            return; // Will be picked up when building the scan area.
+        }
+
+        final var index = getScanAreaIndex(bedrockOre.getBlockPos());
+        if (index >= 0) {
+            final var previousOre = scanArea[index];
+            if (previousOre != null) {
+                totalYield -= previousOre.getAmount();
+            }
+            scanArea[index] = bedrockOre;
+            totalYield += bedrockOre.getAmount();
+            hasNoMoreOres = false;
+            setInfoChanged();
+            wakeUp();
+        }
+    }
+
+    void handleOreRemoved(final BedrockOreBlockEntity bedrockOre) {
+        final var index = getScanAreaIndex(bedrockOre.getBlockPos());
+        if (index >= 0 && scanArea[index] == bedrockOre) {
+            scanArea[index] = null;
+            totalYield -= bedrockOre.getAmount();
+            setInfoChanged();
+        }
+        if (currentOre == bedrockOre) {
+            currentOre = null;
+        }
+    }
+
+    void handleOreAmountChanged(final BedrockOreBlockEntity bedrockOre, final int delta) {
+        final var index = getScanAreaIndex(bedrockOre.getBlockPos());
+        if (index >= 0 && scanArea[index] == bedrockOre) {
+            totalYield += delta;
+            setInfoChanged();
+            if (delta > 0) {
+                hasNoMoreOres = false;
+                wakeUp();
+            }
+        }
+    }
+
+    // --------------------------------------------------------------------- //
+
     private void updateEffects() {
         if (!isWorkingClient) {
             return;
@@ -272,8 +408,7 @@ public final class BedrockOreMinerBlockEntity extends BlockEntityWithInfo {
             return;
         }
 
-        final var outputSlot = findFirstNonEmptyOutputSlot();
-        if (outputSlot < 0) {
+        if (isOutputEmpty()) {
             return;
         }
 
@@ -284,38 +419,70 @@ public final class BedrockOreMinerBlockEntity extends BlockEntityWithInfo {
             return;
         }
 
-        LazyOptional<IItemHandler> optionalItemhandler = LazyOptional.empty();
-
-        final var blockPos = getBlockPos().above();
-        final var blockEntity = level.getBlockEntity(blockPos);
-        if (blockEntity != null) {
-            optionalItemhandler = blockEntity.getCapability(ForgeCapabilities.ITEM_HANDLER, Direction.DOWN);
+        final var itemHandler = getOutputItemHandler(level);
+        if (itemHandler == null) {
+            isOutputBlocked = true;
+            transferCooldown = TRANSFER_RETRY_INTERVAL;
+            return;
         }
 
-        if (!optionalItemhandler.isPresent()) {
-            final var entities = level.getEntities((Entity) null, new AABB(blockPos), entity -> entity.getCapability(ForgeCapabilities.ITEM_HANDLER, Direction.DOWN).isPresent());
-            if (!entities.isEmpty()) {
-                final Entity entity = entities.get(level.random.nextInt(entities.size()));
-                optionalItemhandler = entity.getCapability(ForgeCapabilities.ITEM_HANDLER, Direction.DOWN);
+        var didTransfer = false;
+        for (var slot = 0; slot < outputInventory.getSlots(); ++slot) {
+            final var stack = outputInventory.getStackInSlot(slot);
+            if (stack.isEmpty()) {
+                continue;
+            }
+
+            final ItemStack remainder = ItemHandlerHelper.insertItem(itemHandler, stack.copy(), false);
+            if (remainder.getCount() != stack.getCount()) {
+                outputInventory.setStackInSlotSilently(slot, remainder);
+                didTransfer = true;
             }
         }
 
-        if (!optionalItemhandler.isPresent()) {
-            transferCooldown = 20;
-            return;
+        if (didTransfer) {
+            setChanged();
         }
 
-        final var stack = outputInventory.getStackInSlot(outputSlot);
-        if (optionalItemhandler.isPresent()) {
-            final var itemHandler = optionalItemhandler.orElseThrow(AssertionError::new);
-            final ItemStack remainder = ItemHandlerHelper.insertItem(itemHandler, stack.copy(), false);
-            if (!ItemStack.matches(stack, remainder)) {
-                outputInventory.setStackInSlot(outputSlot, remainder);
-                setChanged();
+        isOutputBlocked = !didTransfer;
+        transferCooldown = TRANSFER_INTERVAL;
+    }
+
+    @Nullable
+    private IItemHandler getOutputItemHandler(final Level level) {
+        if (outputBlockItemHandler == null) {
+            outputBlockItemHandler = LazyOptional.empty();
+            final var blockEntity = level.getBlockEntity(getBlockPos().above());
+            if (blockEntity != null) {
+                final var capability = blockEntity.getCapability(ForgeCapabilities.ITEM_HANDLER, Direction.DOWN);
+                if (capability.isPresent()) {
+                    if (listenedOutputBlockItemHandlers.add(capability)) {
+                        capability.addListener(invalidated -> {
+                            if (invalidated == outputBlockItemHandler) {
+                                outputBlockItemHandler = null;
+                            }
+                        });
+                    }
+                    outputBlockItemHandler = capability;
+                }
             }
         }
 
-        transferCooldown = 10;
+        if (outputBlockItemHandler.isPresent()) {
+            return outputBlockItemHandler.orElseThrow(AssertionError::new);
+        }
+
+        if (!MinerSettings.get().outputToEntities()) {
+            return null;
+        }
+
+        final var entities = level.getEntities((Entity) null, new AABB(getBlockPos().above()), entity -> entity.getCapability(ForgeCapabilities.ITEM_HANDLER, Direction.DOWN).isPresent());
+        if (!entities.isEmpty()) {
+            final Entity entity = entities.get(level.random.nextInt(entities.size()));
+            return entity.getCapability(ForgeCapabilities.ITEM_HANDLER, Direction.DOWN).orElse(null);
+        }
+
+        return null;
     }
 
     private int findFirstNonEmptyOutputSlot() {
@@ -328,14 +495,13 @@ public final class BedrockOreMinerBlockEntity extends BlockEntityWithInfo {
         return -1;
     }
 
-    private boolean hasAvailableOutputSlot() {
-        for (var slot = 0; slot < outputInventory.getSlots(); ++slot) {
-            final var stack = outputInventory.getStackInSlot(slot);
-            if (stack.isEmpty()) {
-                return true;
-            }
-        }
-        return false;
+    private boolean isOutputEmpty() {
+        return findFirstNonEmptyOutputSlot() < 0;
+    }
+
+    private boolean hasAvailableOutputSpace() {
+        final var droppedStack = requireNonNull(currentOre).getDroppedStack();
+        return ItemHandlerHelper.insertItemStacked(outputInventory, droppedStack, true).isEmpty();
     }
 
     private void findBedrockOre() {
@@ -344,7 +510,7 @@ public final class BedrockOreMinerBlockEntity extends BlockEntityWithInfo {
         }
 
         if (currentOre == null || currentOre.isRemoved() || currentOre.getAmount() <= 0) {
-            currentOre = findBedrockOres().findFirst().orElse(null);
+            currentOre = findFirstBedrockOre();
             if (currentOre == null) {
                 hasNoMoreOres = true;
                 setWorking(false);
@@ -361,24 +527,56 @@ public final class BedrockOreMinerBlockEntity extends BlockEntityWithInfo {
             --remainingBurnTime;
         }
 
-        if (remainingBurnTime <= 0 && getExternalPowerEfficiency() > 0) {
+        if (remainingBurnTime <= 0) {
+            refuel();
+        }
+    }
+
+    private boolean refuel() {
+        if (getExternalPowerEfficiency() > 0) {
             final var energyBurnTime = energyStorage.consumeEnergyForBurnTime();
             final var scaledBurnTime = Mth.ceil(energyBurnTime * getExternalPowerEfficiency());
             if (scaledBurnTime > 0) {
-                remainingBurnTime = scaledBurnTime;
+                remainingBurnTime += scaledBurnTime;
                 setChanged();
+                return true;
             }
         }
 
-        if (remainingBurnTime <= 0 && getInternalPowerEfficiency() > 0) {
+        if (getInternalPowerEfficiency() > 0) {
             final var stack = fuelInventory.extractItem(0, Integer.MAX_VALUE, false);
             final var stackBurnTime = ForgeHooks.getBurnTime(stack, RecipeType.SMELTING);
             final var scaledBurnTime = Mth.ceil(stackBurnTime * getInternalPowerEfficiency());
             if (scaledBurnTime > 0) {
-                remainingBurnTime = scaledBurnTime;
+                remainingBurnTime += scaledBurnTime;
                 setChanged();
+                return true;
             }
         }
+
+        return false;
+    }
+
+    // Each additional extraction costs as much burn time as the first one.
+    private int payForAdditionalExtractions(final int count) {
+        final var settings = MinerSettings.get();
+        if (!settings.isPowerRequired()) {
+            return Math.max(0, count);
+        }
+
+        final long cost = settings.extractionCooldown() + 1L;
+        var paidCount = 0;
+        while (paidCount < count) {
+            if (remainingBurnTime < cost) {
+                if (!refuel()) {
+                    break;
+                }
+                continue;
+            }
+            remainingBurnTime -= cost;
+            paidCount++;
+        }
+        return paidCount;
     }
 
     private boolean hasRemainingBurnTime() {
@@ -386,93 +584,173 @@ public final class BedrockOreMinerBlockEntity extends BlockEntityWithInfo {
     }
 
     private void extractBedrockOre() {
-        final var bedrockOre = requireNonNull(currentOre);
-
         if (extractionCooldown > 0) {
             extractionCooldown--;
             return;
         }
 
         final var level = requireNonNull(getLevel());
-        final var pos = bedrockOre.getBlockPos();
+        final var batchSize = MinerSettings.get().batchSize();
+
+        var extractedCount = 0;
+        BedrockOreBlockEntity lastOre = null;
+        while (extractedCount < batchSize && currentOre != null) {
+            final var bedrockOre = currentOre;
+            final var count = Math.min(bedrockOre.getAmount(), getAvailableOutputSpace(bedrockOre.getDroppedStack(), batchSize - extractedCount));
+            if (count <= 0) {
+                break;
+            }
+
+            // The first extraction is paid for by the burn time used while cooling down.
+            final var paidCount = extractedCount == 0
+                    ? 1 + payForAdditionalExtractions(count - 1)
+                    : payForAdditionalExtractions(count);
+            if (paidCount <= 0) {
+                break;
+            }
+
+            ItemHandlerHelper.insertItemStacked(outputInventory, bedrockOre.extract(paidCount), false);
+
+            extractedCount += paidCount;
+            lastOre = bedrockOre;
+
+            if (paidCount < count) {
+                break; // Out of fuel.
+            }
+
+            findBedrockOre();
+        }
+
+        if (lastOre == null) {
+            return;
+        }
 
-        ItemHandlerHelper.insertItem(outputInventory, bedrockOre.extract(), false);
         setChanged();
 
-        extractionCooldown = Settings.minerExtractionCooldown.get();
+        extractionCooldown = MinerSettings.get().extractionCooldown();
 
-        final var oreState = bedrockOre.getOreBlockState();
+        final var pos = lastOre.getBlockPos();
+        final var oreState = lastOre.getOreBlockState();
         final var soundType = oreState.getSoundType(level, pos, null);
         final var blockCenter = Vec3.atCenterOf(pos);
         level.playSound(null, blockCenter.x(), blockCenter.y(), blockCenter.z(), soundType.getBreakSound(), SoundSource.BLOCKS, soundType.getVolume(), soundType.getPitch());
     }
 
-    private Stream<BedrockOreBlockEntity> findBedrockOres() {
-        return StreamSupport.stream(new ScanAreaSpliterator(), false);
+    private int getAvailableOutputSpace(final ItemStack stack, final int maxCount) {
+        if (maxCount <= 0) {
+            return 0;
+        }
+        // Ores without an item form drop nothing, but still get used up.
+        if (stack.isEmpty()) {
+            return maxCount;
+        }
+        final var remainder = ItemHandlerHelper.insertItemStacked(outputInventory, ItemHandlerHelper.copyStackWithSize(stack, maxCount), true);
+        return maxCount - remainder.getCount();
+    }
+
+    @Nullable
+    private BedrockOreBlockEntity findFirstBedrockOre() {
+        for (final var bedrockOre : scanArea) {
+            if (bedrockOre != null && !bedrockOre.isRemoved() && bedrockOre.getAmount() > 0) {
+                return bedrockOre;
+            }
+        }
+        return null;
+    }
+
+    private void validateScanArea() {
+        if (isScanAreaValid) {
+            return;
+        }
+
+        final var level = getLevel();
+        if (level == null) {
+            return;
+        }
+
+        isScanAreaValid = true;
+        hasNoMoreOres = false;
+        totalYield = 0;
+
+        final var origin = getBlockPos().below();
+        final var pos = new BlockPos.MutableBlockPos();
+        for (var index = 0; index < SCAN_AREA_SIZE; index++) {
+            final var x = index % SCAN_WIDTH - SCAN_RADIUS;
+            final var z = (index / SCAN_WIDTH) % SCAN_WIDTH - SCAN_RADIUS;
+            final var y = index / (SCAN_WIDTH * SCAN_WIDTH);
+            pos.setWithOffset(origin, x, -y, z);
+
+            // Ores in chunks loaded later on will register themselves.
+            if (level.hasChunkAt(pos) && level.getBlockEntity(pos) instanceof BedrockOreBlockEntity bedrockOre) {
+                scanArea[index] = bedrockOre;
+                totalYield += bedrockOre.getAmount();
+            } else {
+                scanArea[index] = null;
+            }
+        }
+
+        setInfoChanged();
+    }
+
+    private int getScanAreaIndex(final BlockPos orePos) {
+        final var x = orePos.getX() - getBlockPos().getX();
+        final var y = getBlockPos().getY() - 1 - orePos.getY();
+        final var z = orePos.getZ() - getBlockPos().getZ();
+        if (x < -SCAN_RADIUS || x > SCAN_RADIUS || z < -SCAN_RADIUS || z > SCAN_RADIUS || y < 0 || y >= SCAN_DEPTH) {
+            return -1;
+        }
+        return (y * SCAN_WIDTH + (z + SCAN_RADIUS)) * SCAN_WIDTH + (x + SCAN_RADIUS);
+    }
+
+    private void stopWorking() {
+        setWorking(false);
+
+        // Keep ticking until clients know we stopped working.
+        if (isWorkingClient || sendUpdateTagAfter != NO_PENDING_UPDATE) {
+            return;
+        }
+
+        if (isOutputEmpty()) {
+            isSleeping = true;
+            sleepingSettings = MinerSettings.get();
+        } else if (isOutputBlocked) {
+            // We don't get notified about entities with inventories appearing,
+            // so keep retrying periodically while we have pending output.
+            isSleeping = true;
+            sleepingSettings = MinerSettings.get();
+            final var level = requireNonNull(getLevel());
+            level.scheduleTick(getBlockPos(), getBlockState().getBlock(), TRANSFER_RETRY_INTERVAL);
+        }
     }
 
     private void setWorking(final boolean value) {
         isWorkingServer = value;
 
         if (isWorkingServer == isWorkingClient) {
-            sendUpdateTagAfter = null;
-        } else if (sendUpdateTagAfter == null) {
-            sendUpdateTagAfter = Instant.now().plus(SEND_WORKING_STATE_DELAY);
+            sendUpdateTagAfter = NO_PENDING_UPDATE;
+            return;
         }
 
-        if (sendUpdateTagAfter != null && Instant.now().isAfter(sendUpdateTagAfter)) {
-            sendUpdateTagAfter = null;
+        final var level = requireNonNull(getLevel());
+        if (sendUpdateTagAfter == NO_PENDING_UPDATE) {
+            sendUpdateTagAfter = level.getGameTime() + SEND_WORKING_STATE_DELAY;
+        } else if (level.getGameTime() > sendUpdateTagAfter) {
+            sendUpdateTagAfter = NO_PENDING_UPDATE;
             isWorkingClient = isWorkingServer;
-            requireNonNull(getLevel()).sendBlockUpdated(getBlockPos(), getBlockState(), getBlockState(), Block.UPDATE_ALL);
+            level.sendBlockUpdated(getBlockPos(), getBlockState(), getBlockState(), Block.UPDATE_ALL);
         }
     }
 
     private static double getInternalPowerEfficiency() {
-        return Settings.minerEfficiency.get() * Settings.minerEfficiencyInternalPower.get();
+        return MinerSettings.get().internalPowerEfficiency();
     }
 
     private static double getExternalPowerEfficiency() {
-        return Settings.minerEfficiency.get() * Settings.minerEfficiencyExternalPower.get();
+        return MinerSettings.get().externalPowerEfficiency();
     }
 
     // --------------------------------------------------------------------- //
 
-    private final class ScanAreaSpliterator extends Spliterators.AbstractSpliterator<BedrockOreBlockEntity> {
-        private int x, y, z;
-
-        ScanAreaSpliterator() {
-            super((SCAN_RADIUS * 2 + 1) * (SCAN_RADIUS * 2 + 1) * SCAN_DEPTH, ORDERED | DISTINCT | SIZED | NONNULL | IMMUTABLE | SUBSIZED);
-            this.x = -SCAN_RADIUS;
-            this.z = -SCAN_RADIUS;
-            this.y = 0;
-        }
-
-        @Override
-        public boolean tryAdvance(final Consumer<? super BedrockOreBlockEntity> action) {
-            final var scanLevel = requireNonNull(getLevel());
-            while (y < SCAN_DEPTH) {
-                final var pos = getBlockPos().below().offset(x, -y, z);
-
-                x++;
-                if (x > SCAN_RADIUS) {
-                    x = -SCAN_RADIUS;
-                    z++;
-                    if (z > SCAN_RADIUS) {
-                        z = -SCAN_RADIUS;
-                        y++;
-                    }
-                }
-
-                final var tileEntity = scanLevel.getBlockEntity(pos);
-                if (tileEntity instanceof BedrockOreBlockEntity bedrockOre) {
-                    action.accept(bedrockOre);
-                    return true;
-                }
-            }
-            return false;
-        }
-    }
-
     private final class FuelItemHandler extends ItemStackHandler {
         FuelItemHandler() {
             super(SLOT_FUEL_COUNT);
@@ -503,27 +781,70 @@ public final class BedrockOreMinerBlockEntity extends BlockEntityWithInfo {
         protected void onContentsChanged(final int slot) {
             super.onContentsChanged(slot);
             setChanged();
+            wakeUp();
         }
     }
 
     private final class OutputItemHandler extends ItemStackHandler {
         OutputItemHandler() {
-            super(SLOT_OUTPUT_COUNT);
+            super(MinerSettings.get().outputSlots());
+        }
+
+        public void setStackInSlotSilently(final int slot, final ItemStack stack) {
+            validateSlotIndex(slot);
+            stacks.set(slot, stack);
         }
 
         @Override
         public int getSlotLimit(final int slot) {
-            return 1;
+            return MinerSettings.get().outputStackLimit();
+        }
+
+        @Override
+        public void deserializeNBT(final CompoundTag nbt) {
+            super.deserializeNBT(nbt);
+
+            // The saved inventory may have been created with a different configuration.
+            // Move everything into the configured slots, and only keep additional slots
+            // for items that do not fit, so that nothing is lost.
+            final var slotCount = MinerSettings.get().outputSlots();
+            if (stacks.size() == slotCount) {
+                return;
+            }
+
+            final var savedStacks = stacks;
+            final var overflow = new ArrayList<ItemStack>();
+            stacks = NonNullList.withSize(slotCount, ItemStack.EMPTY);
+            for (final var stack : savedStacks) {
+                if (!stack.isEmpty()) {
+                    final var remainder = ItemHandlerHelper.insertItemStacked(this, stack, false);
+                    if (!remainder.isEmpty()) {
+                        overflow.add(remainder);
+                    }
+                }
+            }
+
+            if (!overflow.isEmpty()) {
+                final var fittingStacks = stacks;
+                stacks = NonNullList.withSize(slotCount + overflow.size(), ItemStack.EMPTY);
+                for (var slot = 0; slot < fittingStacks.size(); slot++) {
+                    stacks.set(slot, fittingStacks.get(slot));
+                }
+                for (var i = 0; i < overflow.size(); i++) {
+                    stacks.set(slotCount + i, overflow.get(i));
+                }
+            }
         }
 
         @Override
         protected void onContentsChanged(final int slot) {
             super.onContentsChanged(slot);
             setChanged();
+            wakeUp();
         }
     }
 
-    private static final class EnergyStorageMiner extends EnergyStorage {
+    private final class EnergyStorageMiner extends EnergyStorage {
         public EnergyStorageMiner() {
             super(computeCapacity(), computeCapacity(), 0);
         }
@@ -532,6 +853,15 @@ public final class BedrockOreMinerBlockEntity extends BlockEntityWithInfo {
             this.energy = value;
         }
 
+        @Override
+        public int receiveEnergy(final int maxReceive, final boolean simulate) {
+            final var received = super.receiveEnergy(maxReceive, simulate);
+            if (received > 0 && !simulate) {
+                wakeUp();
+            }
+            return received;
+        }
+
         public int consumeEnergyForBurnTime() {
             final var availableBurnTime = energy / RF_PER_BURN_TIME;
             final var usedEnergy = Math.min(energy, availableBurnTime * RF_PER_BURN_TIME);
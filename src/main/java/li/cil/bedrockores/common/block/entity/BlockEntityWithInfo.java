@@ -1,23 +1,20 @@
 package li.cil.bedrockores.common.block.entity;
 
-import li.cil.bedrockores.common.network.Network;
-import li.cil.bedrockores.common.network.message.InfoRequestMessage;
+import li.cil.bedrockores.client.render.LookAtInfoCache;
 import net.minecraft.core.BlockPos;
-import net.minecraft.network.chat.Component;
+import net.minecraft.network.Connection;
+import net.minecraft.network.protocol.game.ClientboundBlockEntityDataPacket;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.fml.DistExecutor;
 
 import javax.annotation.Nullable;
-import java.time.Duration;
-import java.time.Instant;
-import java.time.temporal.TemporalAmount;
 
 public abstract class BlockEntityWithInfo extends BlockEntity {
-    public static final TemporalAmount UPDATE_INTERVAL = Duration.ofMillis(500);
-
-    private Component currentInfo;
-    private Instant infoValidUntil = Instant.MIN;
+    @Nullable private LookAtInfo cachedInfo; // Server only, built on demand, reset when info changes.
+    private boolean isChunkUnloading;
 
     // --------------------------------------------------------------------- //
 
@@ -26,30 +23,77 @@ public abstract class BlockEntityWithInfo extends BlockEntity {
     }
 
     // --------------------------------------------------------------------- //
-    // LookAtInfoProvider
 
-    @Nullable
-    public final Component getLookAtInfo() {
-        final var level = getLevel();
-        if (level == null) {
-            return null;
+    // Server only, clients read info from the LookAtInfoCache.
+    public final LookAtInfo getInfo() {
+        if (cachedInfo == null) {
+            cachedInfo = buildInfo();
         }
+        return cachedInfo;
+    }
+
+    // --------------------------------------------------------------------- //
+    // BlockEntity
+
+    @Override
+    public void setRemoved() {
+        super.setRemoved();
 
-        if (Instant.now().isAfter(infoValidUntil)) {
-            infoValidUntil = Instant.now().plus(UPDATE_INTERVAL);
-            if (level.isClientSide()) {
-                Network.sendToServer(new InfoRequestMessage(getBlockPos()));
-            } else {
-                currentInfo = buildInfo();
+        cachedInfo = null;
+
+        final var level = getLevel();
+        if (level != null) {
+            if (!level.isClientSide()) {
+                InfoSubscriptions.remove(this);
+            } else if (!isChunkUnloading) {
+                // Block got removed, as opposed to just its chunk being unloaded.
+                final var dimension = level.dimension();
+                final var pos = getBlockPos();
+                DistExecutor.unsafeRunWhenOn(Dist.CLIENT, () -> () -> LookAtInfoCache.remove(dimension, pos));
             }
         }
+    }
 
-        return currentInfo;
+    @Override
+    public void clearRemoved() {
+        super.clearRemoved();
+        isChunkUnloading = false;
     }
 
-    public void setInfoClient(@Nullable final Component info) {
-        this.currentInfo = info;
+    @Override
+    public void onChunkUnloaded() {
+        super.onChunkUnloaded();
+        isChunkUnloading = true;
+    }
+
+    @Override
+    public void onDataPacket(final Connection connection, final ClientboundBlockEntityDataPacket packet) {
+        super.onDataPacket(connection, packet);
+
+        // Individual block entity updates mean something changed on the server,
+        // unlike the full update tags sent when the chunk gets (re-)loaded.
+        invalidateInfoClient();
     }
 
-    protected abstract Component buildInfo();
+    // --------------------------------------------------------------------- //
+
+    protected abstract LookAtInfo buildInfo();
+
+    private void invalidateInfoClient() {
+        final var level = getLevel();
+        if (level != null && level.isClientSide()) {
+            final var dimension = level.dimension();
+            final var pos = getBlockPos();
+            DistExecutor.unsafeRunWhenOn(Dist.CLIENT, () -> () -> LookAtInfoCache.invalidate(dimension, pos));
+        }
+    }
+
+    protected final void setInfoChanged() {
+        cachedInfo = null;
+
+        final var level = getLevel();
+        if (level != null && !level.isClientSide()) {
+            InfoSubscriptions.markChanged(this);
+        }
+    }
 }
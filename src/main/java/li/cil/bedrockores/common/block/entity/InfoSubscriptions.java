@@ -0,0 +1,199 @@
+package li.cil.bedrockores.common.block.entity;
+
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
+import li.cil.bedrockores.common.network.Network;
+import li.cil.bedrockores.common.network.message.InfoResponseMessage;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.phys.Vec3;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.entity.player.PlayerEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+// Pushes info changes to players looking at a block entity. Server side only.
+public final class InfoSubscriptions {
+    private static final int MAX_DISTANCE = 64;
+    private static final int EXPIRE_CHECK_INTERVAL = 20; // in ticks
+
+    private static final Map<ServerPlayer, BlockEntityWithInfo> SUBSCRIPTIONS_BY_PLAYER = new Reference2ObjectOpenHashMap<>();
+    private static final Map<BlockEntityWithInfo, Subscription> SUBSCRIPTIONS = new Reference2ObjectOpenHashMap<>();
+    private static final Set<BlockEntityWithInfo> CHANGED = new ReferenceLinkedOpenHashSet<>();
+
+    private static int ticksUntilExpireCheck;
+
+    // --------------------------------------------------------------------- //
+
+    public static void initialize() {
+        MinecraftForge.EVENT_BUS.addListener(InfoSubscriptions::handleServerTick);
+        MinecraftForge.EVENT_BUS.addListener(InfoSubscriptions::handlePlayerLoggedOut);
+        MinecraftForge.EVENT_BUS.addListener(InfoSubscriptions::handlePlayerChangedDimension);
+        MinecraftForge.EVENT_BUS.addListener(InfoSubscriptions::handlePlayerClone);
+        MinecraftForge.EVENT_BUS.addListener(InfoSubscriptions::handleServerStopped);
+    }
+
+    public static void subscribe(final ServerPlayer player, final BlockEntityWithInfo blockEntity) {
+        if (blockEntity.isRemoved() || !isInRange(player, blockEntity.getBlockPos())) {
+            return;
+        }
+
+        final var previous = SUBSCRIPTIONS_BY_PLAYER.put(player, blockEntity);
+        if (previous != null && previous != blockEntity) {
+            removePlayer(previous, player);
+        }
+
+        final var subscription = SUBSCRIPTIONS.computeIfAbsent(blockEntity, ignored -> new Subscription());
+        if (!subscription.players.contains(player)) {
+            subscription.players.add(player);
+        }
+
+        // Always send the current info to the (re-)subscribing player, they
+        // may have lost what we sent before, e.g. due to the chunk reloading.
+        if (subscription.info == null) {
+            subscription.info = blockEntity.getInfo();
+        }
+        Network.sendToPlayer(player, new InfoResponseMessage(blockEntity.getBlockPos(), subscription.info));
+    }
+
+    public static void unsubscribe(final ServerPlayer player) {
+        final var blockEntity = SUBSCRIPTIONS_BY_PLAYER.remove(player);
+        if (blockEntity != null) {
+            removePlayer(blockEntity, player);
+        }
+    }
+
+    public static boolean isInRange(final ServerPlayer player, final BlockPos pos) {
+        return player.distanceToSqr(Vec3.atCenterOf(pos)) <= MAX_DISTANCE * MAX_DISTANCE;
+    }
+
+    // --------------------------------------------------------------------- //
+
+    static void markChanged(final BlockEntityWithInfo blockEntity) {
+        if (SUBSCRIPTIONS.containsKey(blockEntity)) {
+            CHANGED.add(blockEntity);
+        }
+    }
+
+    static void remove(final BlockEntityWithInfo blockEntity) {
+        final var subscription = SUBSCRIPTIONS.remove(blockEntity);
+        if (subscription != null) {
+            for (final var player : subscription.players) {
+                SUBSCRIPTIONS_BY_PLAYER.remove(player, blockEntity);
+            }
+        }
+        CHANGED.remove(blockEntity);
+    }
+
+    // --------------------------------------------------------------------- //
+
+    private static void handleServerTick(final TickEvent.ServerTickEvent event) {
+        if (event.phase != TickEvent.Phase.END) {
+            return;
+        }
+
+        if (--ticksUntilExpireCheck <= 0) {
+            ticksUntilExpireCheck = EXPIRE_CHECK_INTERVAL;
+            expireSubscriptions();
+        }
+
+        if (CHANGED.isEmpty()) {
+            return;
+        }
+
+        // Building info may mark the block entity as changed again, e.g. when
+        // a miner builds its scan area, so work on a copy.
+        final var changed = new ArrayList<>(CHANGED);
+        CHANGED.clear();
+
+        for (final var blockEntity : changed) {
+            final var subscription = SUBSCRIPTIONS.get(blockEntity);
+            if (subscription == null) {
+                continue;
+            }
+
+            final var info = blockEntity.getInfo();
+            if (Objects.equals(info, subscription.info)) {
+                continue;
+            }
+
+            subscription.info = info;
+            final var message = new InfoResponseMessage(blockEntity.getBlockPos(), info);
+            for (final var player : subscription.players) {
+                Network.sendToPlayer(player, message);
+            }
+        }
+    }
+
+    private static void handlePlayerLoggedOut(final PlayerEvent.PlayerLoggedOutEvent event) {
+        if (event.getEntity() instanceof ServerPlayer player) {
+            unsubscribe(player);
+        }
+    }
+
+    private static void handlePlayerChangedDimension(final PlayerEvent.PlayerChangedDimensionEvent event) {
+        if (event.getEntity() instanceof ServerPlayer player) {
+            unsubscribe(player);
+        }
+    }
+
+    private static void handlePlayerClone(final PlayerEvent.Clone event) {
+        // On respawn the server replaces the player entity, drop the old one so
+        // it does not keep receiving info and isn't kept alive by us.
+        if (event.getOriginal() instanceof ServerPlayer player) {
+            unsubscribe(player);
+        }
+    }
+
+    private static void handleServerStopped(final ServerStoppedEvent event) {
+        SUBSCRIPTIONS_BY_PLAYER.clear();
+        SUBSCRIPTIONS.clear();
+        CHANGED.clear();
+    }
+
+    private static void expireSubscriptions() {
+        if (SUBSCRIPTIONS_BY_PLAYER.isEmpty()) {
+            return;
+        }
+
+        // Clients unsubscribe when looking away, this is only a safety net for
+        // clients that don't, or whose unsubscribe got lost somehow.
+        final List<ServerPlayer> expired = new ArrayList<>();
+        SUBSCRIPTIONS_BY_PLAYER.forEach((player, blockEntity) -> {
+            if (player.hasDisconnected() || player.isRemoved() || player.getLevel() != blockEntity.getLevel() || !isInRange(player, blockEntity.getBlockPos())) {
+                expired.add(player);
+            }
+        });
+        for (final var player : expired) {
+            unsubscribe(player);
+        }
+    }
+
+    private static void removePlayer(final BlockEntityWithInfo blockEntity, final ServerPlayer player) {
+        final var subscription = SUBSCRIPTIONS.get(blockEntity);
+        if (subscription != null) {
+            subscription.players.remove(player);
+            if (subscription.players.isEmpty()) {
+                SUBSCRIPTIONS.remove(blockEntity);
+                CHANGED.remove(blockEntity);
+            }
+        }
+    }
+
+    // --------------------------------------------------------------------- //
+
+    private static final class Subscription {
+        public final List<ServerPlayer> players = new ArrayList<>(1);
+        @Nullable public LookAtInfo info;
+    }
+
+    private InfoSubscriptions() {
+    }
+}
@@ -0,0 +1,64 @@
+package li.cil.bedrockores.common.block.entity;
+
+import li.cil.bedrockores.common.config.Constants;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.chat.Component;
+
+import javax.annotation.Nullable;
+
+public record LookAtInfo(Type type, int yield) {
+    public static final LookAtInfo EXHAUSTED = new LookAtInfo(Type.EXHAUSTED, 0);
+
+    private static final byte NO_INFO = 0;
+
+    public enum Type {
+        EXPECTED_YIELD,
+        EXHAUSTED,
+    }
+
+    // --------------------------------------------------------------------- //
+
+    public static LookAtInfo expectedYield(final int yield) {
+        return new LookAtInfo(Type.EXPECTED_YIELD, yield);
+    }
+
+    public Component toComponent() {
+        return switch (type) {
+            case EXPECTED_YIELD -> Component.translatable(Constants.GUI_EXPECTED_YIELD, yield);
+            case EXHAUSTED -> Component.translatable(Constants.GUI_EXHAUSTED);
+        };
+    }
+
+    // --------------------------------------------------------------------- //
+
+    public static void write(final FriendlyByteBuf buffer, @Nullable final LookAtInfo info) {
+        if (info == null) {
+            buffer.writeByte(NO_INFO);
+            return;
+        }
+
+        buffer.writeByte(info.type().ordinal() + 1);
+        if (info.type() == Type.EXPECTED_YIELD) {
+            buffer.writeVarInt(info.yield());
+        }
+    }
+
+    @Nullable
+    public static LookAtInfo read(final FriendlyByteBuf buffer) {
+        final var typeId = buffer.readByte();
+        if (typeId == NO_INFO) {
+            return null;
+        }
+
+        final var types = Type.values();
+        if (typeId < 0 || typeId > types.length) {
+            throw new IllegalArgumentException("Unknown info type: " + typeId);
+        }
+
+        final var type = types[typeId - 1];
+        return switch (type) {
+            case EXPECTED_YIELD -> expectedYield(buffer.readVarInt());
+            case EXHAUSTED -> EXHAUSTED;
+        };
+    }
+}
@@ -0,0 +1,129 @@
+package li.cil.bedrockores.common.block.entity;
+
+import li.cil.bedrockores.common.config.MinerSettings;
+import net.minecraft.world.level.Level;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.fml.LogicalSide;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+// Optionally ticks miners round-robin within a time budget, instead of giving
+// them tickers. Decided per miner when it is loaded.
+public final class MinerScheduler {
+    private static final Map<Level, MinerQueue> QUEUES = new WeakHashMap<>();
+
+    // --------------------------------------------------------------------- //
+
+    public static void initialize() {
+        MinecraftForge.EVENT_BUS.addListener(MinerScheduler::handleLevelTick);
+    }
+
+    // --------------------------------------------------------------------- //
+
+    public static boolean isEnabled() {
+        return MinerSettings.get().useScheduler();
+    }
+
+    // Must be called when the miner is loaded, matching whether it got a ticker.
+    static void addIfEnabled(final Level level, final BedrockOreMinerBlockEntity miner) {
+        if (isEnabled()) {
+            QUEUES.computeIfAbsent(level, ignored -> new MinerQueue()).add(miner);
+        }
+    }
+
+    static void remove(final Level level, final BedrockOreMinerBlockEntity miner) {
+        final var queue = QUEUES.get(level);
+        if (queue != null) {
+            queue.remove(miner);
+            if (queue.isEmpty()) {
+                QUEUES.remove(level);
+            }
+        }
+    }
+
+    // --------------------------------------------------------------------- //
+
+    private static void handleLevelTick(final TickEvent.LevelTickEvent event) {
+        if (event.phase != TickEvent.Phase.END || event.side != LogicalSide.SERVER) {
+            return;
+        }
+
+        final var queue = QUEUES.get(event.level);
+        if (queue != null) {
+            final var settings = MinerSettings.get();
+            queue.run(event.level, settings.useScheduler() ? settings.schedulerBudgetNanos() : Long.MAX_VALUE);
+        }
+    }
+
+    // --------------------------------------------------------------------- //
+
+    private static final class MinerQueue {
+        private final List<BedrockOreMinerBlockEntity> miners = new ArrayList<>();
+        private int next;
+
+        public void add(final BedrockOreMinerBlockEntity miner) {
+            if (miner.schedulerIndex < 0) {
+                miner.schedulerIndex = miners.size();
+                miners.add(miner);
+            }
+        }
+
+        public void remove(final BedrockOreMinerBlockEntity miner) {
+            var index = miner.schedulerIndex;
+            if (index < 0 || index >= miners.size() || miners.get(index) != miner) {
+                return;
+            }
+
+            // Fill the gap by swapping, keeping the split between miners already
+            // updated in this round (before next) and the ones still to update.
+            if (index < next) {
+                next--;
+                move(next, index);
+                index = next;
+            }
+            move(miners.size() - 1, index);
+            miners.remove(miners.size() - 1);
+            miner.schedulerIndex = -1;
+        }
+
+        public boolean isEmpty() {
+            return miners.isEmpty();
+        }
+
+        private void move(final int from, final int to) {
+            if (from != to) {
+                final var miner = miners.get(from);
+                miners.set(to, miner);
+                miner.schedulerIndex = to;
+            }
+        }
+
+        public void run(final Level level, final long budgetNanos) {
+            final var start = System.nanoTime();
+            final var count = miners.size();
+            for (var i = 0; i < count && !miners.isEmpty(); i++) {
+                if (next >= miners.size()) {
+                    next = 0;
+                }
+
+                final var miner = miners.get(next++);
+                if (level.shouldTickBlocksAt(miner.getBlockPos())) {
+                    miner.scheduledTick();
+                }
+
+                if (System.nanoTime() - start >= budgetNanos) {
+                    break;
+                }
+            }
+        }
+    }
+
+    // --------------------------------------------------------------------- //
+
+    private MinerScheduler() {
+    }
+}
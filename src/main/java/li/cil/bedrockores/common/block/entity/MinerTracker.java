@@ -0,0 +1,57 @@
+package li.cil.bedrockores.common.block.entity;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.Level;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Consumer;
+
+// Loaded miners per level, so ores can notify miners in range. Server side only.
+final class MinerTracker {
+    private static final Map<Level, Long2ObjectMap<BedrockOreMinerBlockEntity>> MINERS = new WeakHashMap<>();
+
+    // --------------------------------------------------------------------- //
+
+    static void add(final Level level, final BedrockOreMinerBlockEntity miner) {
+        MINERS.computeIfAbsent(level, ignored -> new Long2ObjectOpenHashMap<>())
+                .put(miner.getBlockPos().asLong(), miner);
+    }
+
+    static void remove(final Level level, final BedrockOreMinerBlockEntity miner) {
+        final var miners = MINERS.get(level);
+        if (miners != null) {
+            miners.remove(miner.getBlockPos().asLong(), miner);
+            if (miners.isEmpty()) {
+                MINERS.remove(level);
+            }
+        }
+    }
+
+    static void forEachMinerInRange(final Level level, final BlockPos orePos, final Consumer<BedrockOreMinerBlockEntity> callback) {
+        final var miners = MINERS.get(level);
+        if (miners == null) {
+            return;
+        }
+
+        // Miners scan the area below them, so look for them above the ore.
+        final var radius = BedrockOreMinerBlockEntity.SCAN_RADIUS;
+        for (var dy = 1; dy <= BedrockOreMinerBlockEntity.SCAN_DEPTH; dy++) {
+            for (var dz = -radius; dz <= radius; dz++) {
+                for (var dx = -radius; dx <= radius; dx++) {
+                    final var miner = miners.get(BlockPos.asLong(orePos.getX() + dx, orePos.getY() + dy, orePos.getZ() + dz));
+                    if (miner != null) {
+                        callback.accept(miner);
+                    }
+                }
+            }
+        }
+    }
+
+    // --------------------------------------------------------------------- //
+
+    private MinerTracker() {
+    }
+}
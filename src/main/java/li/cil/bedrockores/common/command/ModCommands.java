@@ -2,17 +2,30 @@ package li.cil.bedrockores.common.command;
 
 import com.mojang.brigadier.CommandDispatcher;
 import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.context.CommandContext;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import com.mojang.brigadier.exceptions.Dynamic2CommandExceptionType;
 import li.cil.bedrockores.common.block.Blocks;
+import li.cil.bedrockores.common.block.entity.BedrockOreBatch;
 import li.cil.bedrockores.common.block.entity.BedrockOreBlockEntity;
+import li.cil.bedrockores.common.config.Constants;
+import li.cil.bedrockores.common.network.InfoRequestThrottle;
 import net.minecraft.commands.CommandSourceStack;
 import net.minecraft.commands.Commands;
 import net.minecraft.commands.arguments.coordinates.BlockPosArgument;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.chat.Component;
 import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.levelgen.structure.BoundingBox;
 import net.minecraftforge.server.command.EnumArgument;
 
 import static com.mojang.brigadier.Command.SINGLE_SUCCESS;
 
 public final class ModCommands {
+    private static final int MAX_AREA_VOLUME = 32768;
+    private static final Dynamic2CommandExceptionType ERROR_AREA_TOO_LARGE = new Dynamic2CommandExceptionType((max, volume) ->
+            Component.translatable("commands.fill.toobig", max, volume));
+
     private enum BedrockOreOperation {
         WRAP,
         UNWRAP,
@@ -21,32 +34,26 @@ public final class ModCommands {
     public static void register(CommandDispatcher<CommandSourceStack> dispatcher) {
         dispatcher.register(Commands.literal("bedrock_ores")
                 .requires(stack -> stack.hasPermission(Commands.LEVEL_GAMEMASTERS))
+                    .then(Commands.literal("stats")
+                    .executes(context -> {
+                        final var stats = InfoRequestThrottle.getStats();
+                        context.getSource().sendSuccess(Component.translatable(Constants.COMMAND_STATS,
+                                stats.received(), stats.coalesced(), stats.throttled(), stats.dropped(), stats.processed()), false);
+                        return SINGLE_SUCCESS;
+                    }))
+
                     .then(Commands.argument("wrap", EnumArgument.enumArgument(BedrockOreOperation.class))
                     .then(Commands.argument("pos", BlockPosArgument.blockPos())
                     .executes(context -> {
-                        final var operation = context.getArgument("wrap", BedrockOreOperation.class);
                         final var pos = BlockPosArgument.getLoadedBlockPos(context, "pos");
-                        final var level = context.getSource().getLevel();
-
-                        switch (operation) {
-                            case WRAP -> {
-                                final var state = level.getBlockState(pos);
-                                level.setBlock(pos, Blocks.BEDROCK_ORE.get().defaultBlockState(), Block.UPDATE_CLIENTS);
-                                if (level.getBlockEntity(pos) instanceof BedrockOreBlockEntity bedrockOre) {
-                                    bedrockOre.setOreBlockState(state);
-                                    bedrockOre.setAmount(1);
-                                }
-                            }
-                            case UNWRAP -> {
-                                if (level.getBlockEntity(pos) instanceof BedrockOreBlockEntity bedrockOre) {
-                                    final var state = bedrockOre.getOreBlockState();
-                                    level.setBlock(pos, state, Block.UPDATE_CLIENTS);
-                                }
-                            }
-                        }
-
-                        return SINGLE_SUCCESS;
-                    })))
+                        return applyOperation(context, pos, pos);
+                    })
+                    .then(Commands.argument("to", BlockPosArgument.blockPos())
+                    .executes(context -> {
+                        final var from = BlockPosArgument.getLoadedBlockPos(context, "pos");
+                        final var to = BlockPosArgument.getLoadedBlockPos(context, "to");
+                        return applyOperation(context, from, to);
+                    }))))
 
                     .then(Commands.argument("amount", IntegerArgumentType.integer(1))
                     .then(Commands.argument("pos", BlockPosArgument.blockPos())
@@ -62,4 +69,45 @@ public final class ModCommands {
                         return SINGLE_SUCCESS;
                     }))));
     }
+
+    // --------------------------------------------------------------------- //
+
+    private static int applyOperation(final CommandContext<CommandSourceStack> context, final BlockPos from, final BlockPos to) throws CommandSyntaxException {
+        final var operation = context.getArgument("wrap", BedrockOreOperation.class);
+        final var level = context.getSource().getLevel();
+
+        final var area = BoundingBox.fromCorners(from, to);
+        final var volume = area.getXSpan() * area.getYSpan() * area.getZSpan();
+        if (volume > MAX_AREA_VOLUME) {
+            throw ERROR_AREA_TOO_LARGE.create(MAX_AREA_VOLUME, volume);
+        }
+
+        // Changing many ores at once, defer lighting and client updates to
+        // one pass per chunk section.
+        try (final var batch = BedrockOreBatch.begin(level)) {
+            for (final var pos : BlockPos.betweenClosed(area.minX(), area.minY(), area.minZ(), area.maxX(), area.maxY(), area.maxZ())) {
+                switch (operation) {
+                    case WRAP -> {
+                        final var state = level.getBlockState(pos);
+                        if (state.isAir() || state.is(Blocks.BEDROCK_ORE.get())) {
+                            continue;
+                        }
+                        level.setBlock(pos, Blocks.BEDROCK_ORE.get().defaultBlockState(), Block.UPDATE_CLIENTS);
+                        if (level.getBlockEntity(pos) instanceof BedrockOreBlockEntity bedrockOre) {
+                            batch.setOreBlockState(bedrockOre, state);
+                            bedrockOre.setAmount(1);
+                        }
+                    }
+                    case UNWRAP -> {
+                        if (level.getBlockEntity(pos) instanceof BedrockOreBlockEntity bedrockOre) {
+                            final var state = bedrockOre.getOreBlockState();
+                            level.setBlock(pos, state, Block.UPDATE_CLIENTS);
+                        }
+                    }
+                }
+            }
+        }
+
+        return SINGLE_SUCCESS;
+    }
 }
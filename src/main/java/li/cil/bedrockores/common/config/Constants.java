@@ -9,6 +9,11 @@ public final class Constants {
 
     public static final String MOD_ID = "bedrockores";
 
+    // --------------------------------------------------------------------- //
+    // Commands
+
+    public static final String COMMAND_STATS = "commands.bedrockores.stats";
+
     // --------------------------------------------------------------------- //
     // GUI
 
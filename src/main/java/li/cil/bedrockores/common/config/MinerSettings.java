@@ -0,0 +1,49 @@
+package li.cil.bedrockores.common.config;
+
+import javax.annotation.Nullable;
+
+// Snapshot of the miner config, rebuilt on (re)load, so ticks skip config lookups.
+public record MinerSettings(int extractionCooldown,
+                            int batchSize,
+                            double internalPowerEfficiency,
+                            double externalPowerEfficiency,
+                            int outputSlots,
+                            int outputStackLimit,
+                            boolean outputToEntities,
+                            boolean useScheduler,
+                            long schedulerBudgetNanos
+) {
+    @Nullable private static volatile MinerSettings current;
+
+    // --------------------------------------------------------------------- //
+
+    public static MinerSettings get() {
+        var settings = current;
+        if (settings == null) {
+            settings = update();
+        }
+        return settings;
+    }
+
+    public boolean isPowerRequired() {
+        return internalPowerEfficiency > 0 || externalPowerEfficiency > 0;
+    }
+
+    // --------------------------------------------------------------------- //
+
+    static MinerSettings update() {
+        final var settings = new MinerSettings(
+                Settings.minerExtractionCooldown.get(),
+                Settings.minerBatchSize.get(),
+                Settings.minerEfficiency.get() * Settings.minerEfficiencyInternalPower.get(),
+                Settings.minerEfficiency.get() * Settings.minerEfficiencyExternalPower.get(),
+                Settings.minerOutputSlots.get(),
+                Settings.minerOutputStackLimit.get(),
+                Settings.minerOutputToEntities.get(),
+                Settings.minerScheduler.get(),
+                Settings.minerSchedulerBudget.get() * 1000L
+        );
+        current = settings;
+        return settings;
+    }
+}
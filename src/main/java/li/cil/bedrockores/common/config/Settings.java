@@ -3,12 +3,22 @@ package li.cil.bedrockores.common.config;
 import net.minecraftforge.common.ForgeConfigSpec;
 import net.minecraftforge.fml.ModLoadingContext;
 import net.minecraftforge.fml.config.ModConfig;
+import net.minecraftforge.fml.event.config.ModConfigEvent;
+import net.minecraftforge.fml.javafmlmod.FMLJavaModLoadingContext;
 
 public final class Settings {
+    private static ForgeConfigSpec spec;
+
     public static ForgeConfigSpec.IntValue minerExtractionCooldown;
+    public static ForgeConfigSpec.IntValue minerBatchSize;
     public static ForgeConfigSpec.DoubleValue minerEfficiency;
     public static ForgeConfigSpec.DoubleValue minerEfficiencyInternalPower;
     public static ForgeConfigSpec.DoubleValue minerEfficiencyExternalPower;
+    public static ForgeConfigSpec.IntValue minerOutputSlots;
+    public static ForgeConfigSpec.IntValue minerOutputStackLimit;
+    public static ForgeConfigSpec.BooleanValue minerOutputToEntities;
+    public static ForgeConfigSpec.BooleanValue minerScheduler;
+    public static ForgeConfigSpec.IntValue minerSchedulerBudget;
 
     public static ForgeConfigSpec.IntValue veinsPerChunk;
     public static ForgeConfigSpec.BooleanValue allowPlayerMining;
@@ -22,6 +32,11 @@ public final class Settings {
         minerExtractionCooldown = builder
                 .comment("The time in ticks between extraction operations performed by the miner.")
                 .defineInRange("cooldown", 100, 0, Integer.MAX_VALUE);
+        minerBatchSize = builder
+                .comment("The maximum number of items extracted per extraction operation performed by the miner. " +
+                        "Each item costs as much power as a single extraction operation. Allows higher throughput " +
+                        "without lowering the cooldown.")
+                .defineInRange("batch_size", 1, 1, 64);
         minerEfficiency = builder
                 .comment("The power efficiency of the miner. Actual mining time per power unit is original value times this. " +
                         "Applies to both internal power generation as well as power supplied externally. Set to 0 to disable power requirement.")
@@ -34,6 +49,26 @@ public final class Settings {
                 .comment("The power efficiency of the miner. Total mining time is original powered time times this times `minerEfficiency`. " +
                         "Applies to power supplied externally. Set to 0 to disable external powering.")
                 .defineInRange("energy_efficiency", 1.0, 0, 100);
+        minerOutputSlots = builder
+                .comment("The number of output slots of the miner. Extracted items are buffered here until they can be " +
+                        "transferred into the inventory above the miner.")
+                .defineInRange("output_slots", 6, 1, 54);
+        minerOutputStackLimit = builder
+                .comment("The maximum number of items per output slot of the miner. Extracted items are merged into " +
+                        "existing stacks first. Higher values allow the miner to keep working longer when its output is blocked.")
+                .defineInRange("output_stack_limit", 1, 1, 64);
+        minerOutputToEntities = builder
+                .comment("Whether the miner may output into entities with inventories above it (e.g. minecarts) " +
+                        "if there is no block with an inventory above it. Looking for such entities has a small cost.")
+                .define("output_to_entities", true);
+        minerScheduler = builder
+                .comment("Whether to update all miners of a level from a central scheduler instead of individually. " +
+                        "The scheduler updates miners round-robin and stops once its time budget is used up, continuing " +
+                        "with the remaining miners in the next tick. Useful for worlds with very many miners.")
+                .define("scheduler", false);
+        minerSchedulerBudget = builder
+                .comment("The time in microseconds the miner scheduler may spend per level per tick.")
+                .defineInRange("scheduler_budget", 2000, 1, 1000000);
 
         builder.pop().push("world");
         veinsPerChunk = builder
@@ -49,6 +84,25 @@ public final class Settings {
                 .comment("Whether to only show the floating UI indicating ore yield when sneaking.")
                 .define("info_only_when_sneaking", true);
 
-        ModLoadingContext.get().registerConfig(ModConfig.Type.COMMON, builder.build());
+        spec = builder.build();
+        ModLoadingContext.get().registerConfig(ModConfig.Type.COMMON, spec);
+
+        final var bus = FMLJavaModLoadingContext.get().getModEventBus();
+        bus.addListener(Settings::handleConfigLoading);
+        bus.addListener(Settings::handleConfigReloading);
+    }
+
+    // --------------------------------------------------------------------- //
+
+    private static void handleConfigLoading(final ModConfigEvent.Loading event) {
+        if (event.getConfig().getSpec() == spec) {
+            MinerSettings.update();
+        }
+    }
+
+    private static void handleConfigReloading(final ModConfigEvent.Reloading event) {
+        if (event.getConfig().getSpec() == spec) {
+            MinerSettings.update();
+        }
     }
 }
@@ -0,0 +1,191 @@
+package li.cil.bedrockores.common.network;
+
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.entity.player.PlayerEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
+import net.minecraftforge.network.NetworkEvent;
+
+import javax.annotation.Nullable;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Rate limits info requests per player. Pending requests of the same kind are
+// merged, throttled ones are deferred to a later tick.
+public final class InfoRequestThrottle {
+    private static final int BUCKET_CAPACITY = 20;
+    private static final int REFILL_PER_SECOND = 10;
+    private static final long NANOS_PER_TOKEN = TimeUnit.SECONDS.toNanos(1) / REFILL_PER_SECOND;
+    private static final int MAX_QUEUED_PER_KIND = 8;
+
+    private static final Map<UUID, PlayerState> STATES = new ConcurrentHashMap<>();
+
+    private static final AtomicLong RECEIVED = new AtomicLong();
+    private static final AtomicLong COALESCED = new AtomicLong();
+    private static final AtomicLong THROTTLED = new AtomicLong();
+    private static final AtomicLong DROPPED = new AtomicLong();
+    private static final AtomicLong PROCESSED = new AtomicLong();
+
+    // --------------------------------------------------------------------- //
+
+    public enum Kind {
+        SUBSCRIPTION,
+        QUERY,
+    }
+
+    public record Stats(long received, long coalesced, long throttled, long dropped, long processed) {
+    }
+
+    @FunctionalInterface
+    public interface Handler {
+        void handleMessage(NetworkEvent.Context context);
+
+        // Returns null if both have to be handled separately. Newer replaces by default.
+        @Nullable
+        default Handler merge(final Handler newer) {
+            return newer;
+        }
+    }
+
+    // --------------------------------------------------------------------- //
+
+    public static void initialize() {
+        MinecraftForge.EVENT_BUS.addListener(InfoRequestThrottle::handleServerTick);
+        MinecraftForge.EVENT_BUS.addListener(InfoRequestThrottle::handlePlayerLoggedOut);
+        MinecraftForge.EVENT_BUS.addListener(InfoRequestThrottle::handleServerStopped);
+    }
+
+    public static void submit(final NetworkEvent.Context context, final Kind kind, final Handler handler) {
+        RECEIVED.incrementAndGet();
+
+        final var sender = context.getSender();
+        if (sender == null) {
+            return;
+        }
+
+        final var state = STATES.computeIfAbsent(sender.getUUID(), ignored -> new PlayerState());
+        final var index = kind.ordinal();
+        synchronized (state) {
+            final var queue = state.pending[index];
+            if (!queue.isEmpty()) {
+                final var merged = queue.getLast().handler().merge(handler);
+                if (merged != null) {
+                    queue.removeLast();
+                    queue.addLast(new Request(context, merged));
+                    COALESCED.incrementAndGet();
+                    return;
+                }
+
+                // Only a client flooding us gets here, legitimate ones wait for replies.
+                if (queue.size() >= MAX_QUEUED_PER_KIND) {
+                    queue.removeFirst();
+                    DROPPED.incrementAndGet();
+                }
+
+                // Runs after the ones before it, see handleServerTick.
+                queue.addLast(new Request(context, handler));
+                THROTTLED.incrementAndGet();
+                return;
+            }
+
+            queue.addLast(new Request(context, handler));
+            if (!state.tryAcquire(System.nanoTime())) {
+                // Stays pending, see handleServerTick.
+                THROTTLED.incrementAndGet();
+                return;
+            }
+
+            state.isScheduled[index] = true;
+        }
+
+        context.enqueueWork(() -> runPending(state, index));
+    }
+
+    public static Stats getStats() {
+        return new Stats(RECEIVED.get(), COALESCED.get(), THROTTLED.get(), DROPPED.get(), PROCESSED.get());
+    }
+
+    // --------------------------------------------------------------------- //
+
+    private static void handleServerTick(final TickEvent.ServerTickEvent event) {
+        if (event.phase != TickEvent.Phase.START || STATES.isEmpty()) {
+            return;
+        }
+
+        // Run throttled requests that are still pending once tokens are available.
+        final var now = System.nanoTime();
+        for (final var state : STATES.values()) {
+            for (var index = 0; index < state.pending.length; index++) {
+                while (true) {
+                    synchronized (state) {
+                        if (state.pending[index].isEmpty() || state.isScheduled[index] || !state.tryAcquire(now)) {
+                            break;
+                        }
+                    }
+                    runPending(state, index);
+                }
+            }
+        }
+    }
+
+    private static void handlePlayerLoggedOut(final PlayerEvent.PlayerLoggedOutEvent event) {
+        STATES.remove(event.getEntity().getUUID());
+    }
+
+    private static void handleServerStopped(final ServerStoppedEvent event) {
+        STATES.clear();
+    }
+
+    private static void runPending(final PlayerState state, final int index) {
+        final Request request;
+        synchronized (state) {
+            request = state.pending[index].pollFirst();
+            state.isScheduled[index] = false;
+        }
+        if (request != null) {
+            PROCESSED.incrementAndGet();
+            request.handler().handleMessage(request.context());
+        }
+    }
+
+    // --------------------------------------------------------------------- //
+
+    private record Request(NetworkEvent.Context context, Handler handler) {
+    }
+
+    private static final class PlayerState {
+        @SuppressWarnings("unchecked")
+        public final ArrayDeque<Request>[] pending = new ArrayDeque[Kind.values().length];
+        public final boolean[] isScheduled = new boolean[Kind.values().length];
+        private int tokens = BUCKET_CAPACITY;
+        private long lastRefill = System.nanoTime();
+
+        public PlayerState() {
+            for (var index = 0; index < pending.length; index++) {
+                pending[index] = new ArrayDeque<>(1);
+            }
+        }
+
+        public boolean tryAcquire(final long now) {
+            final var refill = (now - lastRefill) / NANOS_PER_TOKEN;
+            if (refill > 0) {
+                tokens = (int) Math.min(BUCKET_CAPACITY, tokens + refill);
+                lastRefill += refill * NANOS_PER_TOKEN;
+            }
+
+            if (tokens == 0) {
+                return false;
+            }
+
+            tokens--;
+            return true;
+        }
+    }
+
+    private InfoRequestThrottle() {
+    }
+}
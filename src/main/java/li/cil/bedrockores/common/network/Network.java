@@ -2,18 +2,23 @@ package li.cil.bedrockores.common.network;
 
 import li.cil.bedrockores.common.config.Constants;
 import li.cil.bedrockores.common.network.message.AbstractMessage;
-import li.cil.bedrockores.common.network.message.InfoRequestMessage;
+import li.cil.bedrockores.common.network.message.InfoBatchRequestMessage;
+import li.cil.bedrockores.common.network.message.InfoBatchResponseMessage;
 import li.cil.bedrockores.common.network.message.InfoResponseMessage;
+import li.cil.bedrockores.common.network.message.InfoSubscribeMessage;
+import li.cil.bedrockores.common.network.message.InfoUnsubscribeMessage;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerPlayer;
 import net.minecraftforge.network.NetworkDirection;
 import net.minecraftforge.network.NetworkRegistry;
+import net.minecraftforge.network.PacketDistributor;
 import net.minecraftforge.network.simple.SimpleChannel;
 
 import java.util.function.Function;
 
 public final class Network {
-    private static final String PROTOCOL_VERSION = "1";
+    private static final String PROTOCOL_VERSION = "4";
 
     public static final SimpleChannel INSTANCE = NetworkRegistry.newSimpleChannel(
             new ResourceLocation(Constants.MOD_ID, "main"),
@@ -29,14 +34,21 @@ public final class Network {
     // --------------------------------------------------------------------- //
 
     public static void initialize() {
-        registerMessage(InfoRequestMessage.class, InfoRequestMessage::new, NetworkDirection.PLAY_TO_SERVER);
+        registerMessage(InfoSubscribeMessage.class, InfoSubscribeMessage::new, NetworkDirection.PLAY_TO_SERVER);
+        registerMessage(InfoUnsubscribeMessage.class, InfoUnsubscribeMessage::new, NetworkDirection.PLAY_TO_SERVER);
         registerMessage(InfoResponseMessage.class, InfoResponseMessage::new, NetworkDirection.PLAY_TO_CLIENT);
+        registerMessage(InfoBatchRequestMessage.class, InfoBatchRequestMessage::new, NetworkDirection.PLAY_TO_SERVER);
+        registerMessage(InfoBatchResponseMessage.class, InfoBatchResponseMessage::new, NetworkDirection.PLAY_TO_CLIENT);
     }
 
     public static <T extends AbstractMessage> void sendToServer(final T message) {
         Network.INSTANCE.sendToServer(message);
     }
 
+    public static <T extends AbstractMessage> void sendToPlayer(final ServerPlayer player, final T message) {
+        Network.INSTANCE.send(PacketDistributor.PLAYER.with(() -> player), message);
+    }
+
     // --------------------------------------------------------------------- //
 
     private static <T extends AbstractMessage> void registerMessage(final Class<T> type, final Function<FriendlyByteBuf, T> decoder, final NetworkDirection direction) {
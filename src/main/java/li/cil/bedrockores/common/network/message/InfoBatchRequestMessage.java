@@ -0,0 +1,108 @@
+package li.cil.bedrockores.common.network.message;
+
+import li.cil.bedrockores.common.block.entity.BlockEntityWithInfo;
+import li.cil.bedrockores.common.block.entity.InfoSubscriptions;
+import li.cil.bedrockores.common.block.entity.LookAtInfo;
+import li.cil.bedrockores.common.network.InfoRequestThrottle;
+import li.cil.bedrockores.common.network.Network;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraftforge.network.NetworkEvent;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.function.Supplier;
+
+public final class InfoBatchRequestMessage extends AbstractMessage implements InfoRequestThrottle.Handler {
+    public static final int MAX_POSITIONS = 256;
+
+    private List<BlockPos> positions;
+
+    // --------------------------------------------------------------------- //
+
+    public InfoBatchRequestMessage(final Collection<BlockPos> positions) {
+        if (positions.size() > MAX_POSITIONS) {
+            throw new IllegalArgumentException("Too many positions, at most " + MAX_POSITIONS + " are allowed.");
+        }
+        this.positions = new ArrayList<>(positions);
+    }
+
+    public InfoBatchRequestMessage(final FriendlyByteBuf buffer) {
+        super(buffer);
+    }
+
+    // --------------------------------------------------------------------- //
+    // AbstractMessage
+
+    @Override
+    protected void handleMessage(final Supplier<NetworkEvent.Context> contextSupplier) {
+        InfoRequestThrottle.submit(contextSupplier.get(), InfoRequestThrottle.Kind.QUERY, this);
+    }
+
+    @Override
+    public void handleMessage(final NetworkEvent.Context context) {
+        final var sender = context.getSender();
+        if (sender == null) {
+            return;
+        }
+
+        final var level = sender.getLevel();
+        final var infos = new ArrayList<LookAtInfo>(positions.size());
+        for (final var position : positions) {
+            LookAtInfo info = null;
+            final var chunkPos = new ChunkPos(position);
+            if (level.hasChunk(chunkPos.x, chunkPos.z) &&
+                    InfoSubscriptions.isInRange(sender, position) &&
+                    level.getBlockEntity(position) instanceof BlockEntityWithInfo blockEntity) {
+                info = blockEntity.getInfo();
+            }
+            infos.add(info);
+        }
+
+        Network.sendToPlayer(sender, new InfoBatchResponseMessage(positions, infos));
+    }
+
+    @Override
+    public void fromBytes(final FriendlyByteBuf buffer) {
+        final var count = buffer.readVarInt();
+        if (count < 0 || count > MAX_POSITIONS) {
+            throw new IllegalArgumentException("Invalid number of positions: " + count);
+        }
+
+        positions = new ArrayList<>(count);
+        for (var i = 0; i < count; i++) {
+            positions.add(BlockPos.of(buffer.readLong()));
+        }
+    }
+
+    @Override
+    public void toBytes(final FriendlyByteBuf buffer) {
+        buffer.writeVarInt(positions.size());
+        for (final var position : positions) {
+            buffer.writeLong(position.asLong());
+        }
+    }
+
+    // --------------------------------------------------------------------- //
+    // InfoRequestThrottle.Handler
+
+    @Nullable
+    @Override
+    public InfoRequestThrottle.Handler merge(final InfoRequestThrottle.Handler newer) {
+        if (!(newer instanceof InfoBatchRequestMessage batch)) {
+            return null;
+        }
+
+        final var merged = new LinkedHashSet<>(positions);
+        merged.addAll(batch.positions);
+        if (merged.size() > MAX_POSITIONS) {
+            return null;
+        }
+
+        return new InfoBatchRequestMessage(merged);
+    }
+}
@@ -0,0 +1,78 @@
+package li.cil.bedrockores.common.network.message;
+
+import li.cil.bedrockores.client.render.LookAtInfoCache;
+import li.cil.bedrockores.common.block.entity.BlockEntityWithInfo;
+import li.cil.bedrockores.common.block.entity.LookAtInfo;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.fml.DistExecutor;
+import net.minecraftforge.network.NetworkEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class InfoBatchResponseMessage extends AbstractMessage {
+    private List<BlockPos> positions;
+    private List<LookAtInfo> infos; // Entries may be null.
+
+    // --------------------------------------------------------------------- //
+
+    public InfoBatchResponseMessage(final List<BlockPos> positions, final List<LookAtInfo> infos) {
+        if (positions.size() != infos.size()) {
+            throw new IllegalArgumentException("Number of positions and infos must match.");
+        }
+        this.positions = positions;
+        this.infos = infos;
+    }
+
+    public InfoBatchResponseMessage(final FriendlyByteBuf buffer) {
+        super(buffer);
+    }
+
+    // --------------------------------------------------------------------- //
+    // AbstractMessage
+
+    @Override
+    public void handleMessage(final NetworkEvent.Context context) {
+        final var level = getLevel(context);
+        if (level == null) {
+            return;
+        }
+
+        DistExecutor.unsafeRunWhenOn(Dist.CLIENT, () -> () -> {
+            for (var i = 0; i < positions.size(); i++) {
+                final var position = positions.get(i);
+                final var chunkPos = new ChunkPos(position);
+                if (level.hasChunk(chunkPos.x, chunkPos.z) && level.getBlockEntity(position) instanceof BlockEntityWithInfo) {
+                    LookAtInfoCache.put(level.dimension(), position, infos.get(i));
+                }
+            }
+        });
+    }
+
+    @Override
+    public void fromBytes(final FriendlyByteBuf buffer) {
+        final var count = buffer.readVarInt();
+        if (count < 0 || count > InfoBatchRequestMessage.MAX_POSITIONS) {
+            throw new IllegalArgumentException("Invalid number of positions: " + count);
+        }
+
+        positions = new ArrayList<>(count);
+        infos = new ArrayList<>(count);
+        for (var i = 0; i < count; i++) {
+            positions.add(BlockPos.of(buffer.readLong()));
+            infos.add(LookAtInfo.read(buffer));
+        }
+    }
+
+    @Override
+    public void toBytes(final FriendlyByteBuf buffer) {
+        buffer.writeVarInt(positions.size());
+        for (var i = 0; i < positions.size(); i++) {
+            buffer.writeLong(positions.get(i).asLong());
+            LookAtInfo.write(buffer, infos.get(i));
+        }
+    }
+}
@@ -1,26 +0,0 @@
-package li.cil.bedrockores.common.network.message;
-
-import li.cil.bedrockores.common.block.entity.BlockEntityWithInfo;
-import li.cil.bedrockores.common.network.Network;
-import net.minecraft.core.BlockPos;
-import net.minecraft.network.FriendlyByteBuf;
-import net.minecraftforge.network.NetworkEvent;
-
-public final class InfoRequestMessage extends AbstractMessageWithPosition {
-    public InfoRequestMessage(final BlockPos position) {
-        super(position);
-    }
-
-    public InfoRequestMessage(final FriendlyByteBuf buffer) {
-        super(buffer);
-    }
-
-    // --------------------------------------------------------------------- //
-    // AbstractMessage
-
-    @Override
-    public void handleMessage(final NetworkEvent.Context context) {
-        withBlockEntity(context, BlockEntityWithInfo.class, blockEntity ->
-                Network.INSTANCE.reply(new InfoResponseMessage(blockEntity.getBlockPos(), blockEntity.getLookAtInfo()), context));
-    }
-}
@@ -1,19 +1,22 @@
 package li.cil.bedrockores.common.network.message;
 
+import li.cil.bedrockores.client.render.LookAtInfoCache;
 import li.cil.bedrockores.common.block.entity.BlockEntityWithInfo;
+import li.cil.bedrockores.common.block.entity.LookAtInfo;
 import net.minecraft.core.BlockPos;
 import net.minecraft.network.FriendlyByteBuf;
-import net.minecraft.network.chat.Component;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.fml.DistExecutor;
 import net.minecraftforge.network.NetworkEvent;
 
 import javax.annotation.Nullable;
 
 public final class InfoResponseMessage extends AbstractMessageWithPosition {
-    @Nullable private Component info;
+    @Nullable private LookAtInfo info;
 
     // --------------------------------------------------------------------- //
 
-    public InfoResponseMessage(final BlockPos position, @Nullable final Component info) {
+    public InfoResponseMessage(final BlockPos position, @Nullable final LookAtInfo info) {
         super(position);
         this.info = info;
     }
@@ -28,26 +31,24 @@ public final class InfoResponseMessage extends AbstractMessageWithPosition {
     @Override
     public void fromBytes(final FriendlyByteBuf buffer) {
         super.fromBytes(buffer);
-        final var hasInfo = buffer.readBoolean();
-        if (hasInfo) {
-            info = buffer.readComponent();
-        } else {
-            info = null;
-        }
+        info = LookAtInfo.read(buffer);
     }
 
     @Override
     public void toBytes(final FriendlyByteBuf buffer) {
         super.toBytes(buffer);
-        final var hasInfo = info != null;
-        buffer.writeBoolean(hasInfo);
-        if (hasInfo) {
-            buffer.writeComponent(info);
-        }
+        LookAtInfo.write(buffer, info);
     }
 
     @Override
     public void handleMessage(final NetworkEvent.Context context) {
-        withBlockEntity(context, BlockEntityWithInfo.class, blockEntity -> blockEntity.setInfoClient(info));
+        final var level = getLevel(context);
+        if (level == null) {
+            return;
+        }
+
+        withBlockEntity(level, BlockEntityWithInfo.class, blockEntity ->
+                DistExecutor.unsafeRunWhenOn(Dist.CLIENT, () -> () ->
+                        LookAtInfoCache.put(level.dimension(), blockEntity.getBlockPos(), info)));
     }
 }
@@ -0,0 +1,39 @@
+package li.cil.bedrockores.common.network.message;
+
+import li.cil.bedrockores.common.block.entity.BlockEntityWithInfo;
+import li.cil.bedrockores.common.block.entity.InfoSubscriptions;
+import li.cil.bedrockores.common.network.InfoRequestThrottle;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraftforge.network.NetworkEvent;
+
+import java.util.function.Supplier;
+
+public final class InfoSubscribeMessage extends AbstractMessageWithPosition {
+    public InfoSubscribeMessage(final BlockPos position) {
+        super(position);
+    }
+
+    public InfoSubscribeMessage(final FriendlyByteBuf buffer) {
+        super(buffer);
+    }
+
+    // --------------------------------------------------------------------- //
+    // AbstractMessage
+
+    @Override
+    protected void handleMessage(final Supplier<NetworkEvent.Context> contextSupplier) {
+        InfoRequestThrottle.submit(contextSupplier.get(), InfoRequestThrottle.Kind.SUBSCRIPTION, this::handleMessage);
+    }
+
+    @Override
+    public void handleMessage(final NetworkEvent.Context context) {
+        final var sender = context.getSender();
+        if (sender == null) {
+            return;
+        }
+
+        withBlockEntity(context, BlockEntityWithInfo.class, blockEntity ->
+                InfoSubscriptions.subscribe(sender, blockEntity));
+    }
+}
@@ -0,0 +1,41 @@
+package li.cil.bedrockores.common.network.message;
+
+import li.cil.bedrockores.common.block.entity.InfoSubscriptions;
+import li.cil.bedrockores.common.network.InfoRequestThrottle;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraftforge.network.NetworkEvent;
+
+import java.util.function.Supplier;
+
+public final class InfoUnsubscribeMessage extends AbstractMessage {
+    public InfoUnsubscribeMessage() {
+    }
+
+    public InfoUnsubscribeMessage(final FriendlyByteBuf buffer) {
+        super(buffer);
+    }
+
+    // --------------------------------------------------------------------- //
+    // AbstractMessage
+
+    @Override
+    protected void handleMessage(final Supplier<NetworkEvent.Context> contextSupplier) {
+        InfoRequestThrottle.submit(contextSupplier.get(), InfoRequestThrottle.Kind.SUBSCRIPTION, this::handleMessage);
+    }
+
+    @Override
+    public void fromBytes(final FriendlyByteBuf buffer) {
+    }
+
+    @Override
+    public void toBytes(final FriendlyByteBuf buffer) {
+    }
+
+    @Override
+    public void handleMessage(final NetworkEvent.Context context) {
+        final var sender = context.getSender();
+        if (sender != null) {
+            InfoSubscriptions.unsubscribe(sender);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package li.cil.bedrockores.common.world;
 
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
+import net.minecraft.util.StringRepresentable;
 import net.minecraft.util.valueproviders.ConstantInt;
 import net.minecraft.util.valueproviders.IntProvider;
 import net.minecraft.world.level.block.state.BlockState;
@@ -11,13 +12,38 @@ public record BedrockOreConfiguration(BlockState ore,
                                       IntProvider amount,
                                       IntProvider radius,
                                       IntProvider halfHeight,
-                                      float density
+                                      float density,
+                                      Placement placement
 ) implements FeatureConfiguration {
     public static final Codec<BedrockOreConfiguration> CODEC = RecordCodecBuilder.create((builder) -> builder.group(
             BlockState.CODEC.fieldOf("ore").forGetter(BedrockOreConfiguration::ore),
             IntProvider.POSITIVE_CODEC.fieldOf("amount").forGetter(BedrockOreConfiguration::amount),
             IntProvider.codec(0, 8).optionalFieldOf("radius", ConstantInt.of(4)).forGetter(BedrockOreConfiguration::radius),
-            IntProvider.NON_NEGATIVE_CODEC.optionalFieldOf("half_height", ConstantInt.of(2)).forGetter(BedrockOreConfiguration::halfHeight),
-            Codec.floatRange(0, 1).optionalFieldOf("density", 0.75f).forGetter(BedrockOreConfiguration::density)
+            IntProvider.NON_NEGATIVE_CODEC.optionalFieldOf("half_height", ConstantInt.of(4)).forGetter(BedrockOreConfiguration::halfHeight),
+            Codec.floatRange(0, 1).optionalFieldOf("density", 0.75f).forGetter(BedrockOreConfiguration::density),
+            Placement.CODEC.optionalFieldOf("placement", Placement.LEGACY).forGetter(BedrockOreConfiguration::placement)
     ).apply(builder, BedrockOreConfiguration::new));
+
+    // Both are deterministic, but produce different veins for the same seed.
+    public enum Placement implements StringRepresentable {
+        // One float per block, keeps veins of existing worlds unchanged.
+        LEGACY("legacy"),
+
+        // One byte per block, from one long per eight blocks.
+        FAST("fast"),
+        ;
+
+        public static final Codec<Placement> CODEC = StringRepresentable.fromEnum(Placement::values);
+
+        private final String name;
+
+        Placement(final String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String getSerializedName() {
+            return name;
+        }
+    }
 }
@@ -1,15 +1,36 @@
 package li.cil.bedrockores.common.world;
 
 import com.mojang.serialization.Codec;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
 import li.cil.bedrockores.common.block.Blocks;
 import li.cil.bedrockores.common.block.entity.BedrockOreBlockEntity;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
 import net.minecraft.util.RandomSource;
 import net.minecraft.world.level.WorldGenLevel;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunkSection;
 import net.minecraft.world.level.levelgen.feature.Feature;
 import net.minecraft.world.level.levelgen.feature.FeaturePlaceContext;
 
+import javax.annotation.Nullable;
+
 public class BedrockOreFeature extends Feature<BedrockOreConfiguration> {
+    private static final int MAX_PRECOMPUTED_RADIUS = 8;
+
+    // Column offsets of discs per radius, as (dx, dz) pairs. In the same order
+    // iterating the bounding square would visit them, so that random draws
+    // and hence placement are the same as when testing each column in place.
+    private static final int[][] DISC_OFFSETS = new int[MAX_PRECOMPUTED_RADIUS + 1][];
+
+    static {
+        for (var radius = 0; radius <= MAX_PRECOMPUTED_RADIUS; radius++) {
+            DISC_OFFSETS[radius] = computeDiscOffsets(radius);
+        }
+    }
+
+    // --------------------------------------------------------------------- //
+
     public BedrockOreFeature(final Codec<BedrockOreConfiguration> config) {
         super(config);
     }
@@ -21,41 +42,129 @@ public class BedrockOreFeature extends Feature<BedrockOreConfiguration> {
         final var random = context.random();
 
         final var y = origin.getY();
-        final var y1 = y + 4;
-        final var y0 = y - 4;
         final var radius = config.radius().sample(random);
+        final var halfHeight = config.halfHeight().sample(random);
+        final var y1 = y + halfHeight;
+        final var y0 = y - halfHeight;
+        final var offsets = getDiscOffsets(radius);
+        // Legacy placement draws a float per candidate, which needs no state.
+        final var sampler = config.placement() == BedrockOreConfiguration.Placement.FAST
+                ? new DensitySampler(config, random)
+                : null;
 
         var didPlace = false;
-        var tempPos = new BlockPos.MutableBlockPos();
-        for (final BlockPos pos : BlockPos.betweenClosed(origin.offset(-radius, 0, -radius), origin.offset(radius, 0, radius))) {
-            int dx = pos.getX() - origin.getX();
-            int dz = pos.getZ() - origin.getZ();
-            if (dx * dx + dz * dz <= radius * radius) {
-                didPlace |= this.placeColumn(config, level, random, tempPos.set(pos), y0, y1);
-            }
+        final var tempPos = new BlockPos.MutableBlockPos();
+        for (var i = 0; i < offsets.length; i += 2) {
+            tempPos.set(origin.getX() + offsets[i], y, origin.getZ() + offsets[i + 1]);
+            didPlace |= this.placeColumn(config, level, random, sampler, tempPos, y0, y1);
         }
         return didPlace;
     }
 
-    protected boolean placeColumn(BedrockOreConfiguration config, WorldGenLevel level, RandomSource random, BlockPos.MutableBlockPos center, int y0, int y1) {
+    protected boolean placeColumn(BedrockOreConfiguration config, WorldGenLevel level, RandomSource random, @Nullable DensitySampler sampler, BlockPos.MutableBlockPos center, int y0, int y1) {
+        // Read block states straight from the chunk's sections, looking up the
+        // chunk once per column instead of once per block.
+        final var chunk = level.getChunk(SectionPos.blockToSectionCoord(center.getX()), SectionPos.blockToSectionCoord(center.getZ()));
+        final var localX = SectionPos.sectionRelative(center.getX());
+        final var localZ = SectionPos.sectionRelative(center.getZ());
+
         var didPlace = false;
+        var sectionIndex = -1;
+        LevelChunkSection section = null;
         for (int i = y1; i > y0; --i) {
-            center.setY(i);
+            final var index = chunk.getSectionIndex(i);
+            if (index < 0 || index >= chunk.getSectionsCount()) {
+                continue;
+            }
+            if (index != sectionIndex) {
+                sectionIndex = index;
+                section = chunk.getSection(index);
 
-            if (!level.getBlockState(center).is(net.minecraft.world.level.block.Blocks.BEDROCK)) {
+                // Skip sections that have no bedrock in their palette, i.e. for
+                // the most part anything not at the very bottom of the world.
+                if (section.hasOnlyAir() || !section.maybeHas(BedrockOreFeature::isBedrock)) {
+                    i = SectionPos.sectionToBlockCoord(SectionPos.blockToSectionCoord(i));
+                    continue;
+                }
+            }
+
+            if (!isBedrock(section.getBlockState(localX, SectionPos.sectionRelative(i), localZ))) {
                 continue;
             }
-            if (random.nextFloat() >= config.density()) {
+            if (sampler != null ? !sampler.next() : random.nextFloat() >= config.density()) {
                 continue;
             }
 
-            setBlock(level, center, Blocks.BEDROCK_ORE.get().defaultBlockState());
+            center.setY(i);
+            setBlock(level, center, getBedrockOreBlockState());
             if (level.getBlockEntity(center) instanceof BedrockOreBlockEntity bedrockOre) {
-                bedrockOre.setOreBlockState(config.ore());
-                bedrockOre.setAmount(config.amount().sample(random));
+                bedrockOre.initialize(config.ore(), config.amount().sample(random));
             }
             didPlace = true;
         }
         return didPlace;
     }
+
+    // Overridable to run without the mod loaded, e.g. in benchmarks.
+    protected BlockState getBedrockOreBlockState() {
+        return Blocks.BEDROCK_ORE.get().defaultBlockState();
+    }
+
+    // --------------------------------------------------------------------- //
+
+    // Density sampling for fast placement, one byte of randomness per candidate.
+    protected static final class DensitySampler {
+        private static final int BITS_PER_SAMPLE = 8;
+        private static final int SAMPLE_MASK = (1 << BITS_PER_SAMPLE) - 1;
+
+        private final RandomSource random;
+        private final int threshold;
+
+        private long bits;
+        private int remainingSamples;
+
+        DensitySampler(final BedrockOreConfiguration config, final RandomSource random) {
+            this.random = random;
+            this.threshold = Math.round(config.density() * (SAMPLE_MASK + 1));
+        }
+
+        public boolean next() {
+            if (remainingSamples == 0) {
+                bits = random.nextLong();
+                remainingSamples = Long.SIZE / BITS_PER_SAMPLE;
+            }
+
+            final var sample = (int) (bits & SAMPLE_MASK);
+            bits >>>= BITS_PER_SAMPLE;
+            remainingSamples--;
+            return sample < threshold;
+        }
+    }
+
+    // --------------------------------------------------------------------- //
+
+    private static boolean isBedrock(final BlockState state) {
+        return state.is(net.minecraft.world.level.block.Blocks.BEDROCK);
+    }
+
+    private static int[] getDiscOffsets(final int radius) {
+        if (radius <= MAX_PRECOMPUTED_RADIUS) {
+            return DISC_OFFSETS[Math.max(0, radius)];
+        } else {
+            return computeDiscOffsets(radius);
+        }
+    }
+
+    private static int[] computeDiscOffsets(final int radius) {
+        final var offsets = new IntArrayList();
+        for (var dz = -radius; dz <= radius; dz++) {
+            for (var dx = -radius; dx <= radius; dx++) {
+                if (dx * dx + dz * dz <= radius * radius) {
+                    offsets.add(dx);
+                    offsets.add(dz);
+                }
+            }
+        }
+        return offsets.toIntArray();
+    }
 }